@@ -0,0 +1,102 @@
+package com.study.codingswamp.domain.id;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신청자 행을 여러 건 넣을 때 IDENTITY 와 TSID 의 INSERT 비용을 비교한다.
+ * IDENTITY 는 Hibernate 가 하듯 한 행마다 INSERT 를 실행하고 생성된 키를 읽는다.
+ * TSID 는 {@link TsidFactory} 로 id 를 먼저 만들고 hibernate.jdbc.batch_size(50) 만큼 묶어 보낸다.
+ * 같은 프로세스의 H2(MySQL 모드)에 실행하므로 네트워크 왕복 비용은 들어가지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+    private static final Date APPLY_DATE = Date.valueOf(LocalDate.of(2023, 1, 1));
+
+    @Param({"50", "500"})
+    private int rowCount;
+
+    private TsidFactory tsidFactory;
+    private Connection connection;
+    private PreparedStatement identityInsert;
+    private PreparedStatement tsidInsert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        tsidFactory = new TsidFactory(0);
+        connection = DriverManager.getConnection("jdbc:h2:mem:idInsert;MODE=MySQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table identity_applicant (applicant_id bigint auto_increment primary key, "
+                    + "study_id bigint, member_id bigint, reason varchar(255), apply_date date)");
+            statement.execute("create table tsid_applicant (applicant_id bigint primary key, "
+                    + "study_id bigint, member_id bigint, reason varchar(255), apply_date date)");
+        }
+        identityInsert = connection.prepareStatement(
+                "insert into identity_applicant (study_id, member_id, reason, apply_date) values (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+        tsidInsert = connection.prepareStatement(
+                "insert into tsid_applicant (applicant_id, study_id, member_id, reason, apply_date) values (?, ?, ?, ?, ?)");
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table identity_applicant");
+            statement.execute("truncate table tsid_applicant");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table identity_applicant");
+            statement.execute("drop table tsid_applicant");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void identityUnbatched(Blackhole blackhole) throws SQLException {
+        for (int i = 0; i < rowCount; i++) {
+            identityInsert.setLong(1, 1L);
+            identityInsert.setLong(2, i);
+            identityInsert.setString(3, "같이 공부하고 싶습니다.");
+            identityInsert.setDate(4, APPLY_DATE);
+            identityInsert.executeUpdate();
+            try (ResultSet generatedKeys = identityInsert.getGeneratedKeys()) {
+                generatedKeys.next();
+                blackhole.consume(generatedKeys.getLong(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void tsidBatched() throws SQLException {
+        for (int i = 0; i < rowCount; i++) {
+            tsidInsert.setLong(1, tsidFactory.next());
+            tsidInsert.setLong(2, 1L);
+            tsidInsert.setLong(3, i);
+            tsidInsert.setString(4, "같이 공부하고 싶습니다.");
+            tsidInsert.setDate(5, APPLY_DATE);
+            tsidInsert.addBatch();
+            if ((i + 1) % BATCH_SIZE == 0) {
+                tsidInsert.executeBatch();
+            }
+        }
+        tsidInsert.executeBatch();
+    }
+}
@@ -0,0 +1,69 @@
+package com.study.codingswamp.domain.member.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.study.dto.response.ParticipantResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 참가자 목록 응답을 만들어 직렬화하는 비용을 회원 조각 캐시를 쓸 때와 쓰지 않을 때로 비교한다.
+ * 캐시를 쓰는 쪽은 요청마다 {@link MemberFragmentCache#get(Member)} 로 조각을 찾는 비용까지 포함한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberFragmentBenchmark {
+
+    private static final LocalDate PARTICIPATION_DATE = LocalDate.of(2023, 3, 1);
+
+    @Param({"10", "100"})
+    private int participantCount;
+
+    private ObjectMapper objectMapper;
+    private MemberFragmentCache memberFragmentCache;
+    private List<Member> members;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        memberFragmentCache = new MemberFragmentCache(10000);
+        Field id = Member.class.getDeclaredField("id");
+        id.setAccessible(true);
+        members = new ArrayList<>();
+        for (long memberId = 1; memberId <= participantCount; memberId++) {
+            Member member = new Member("member" + memberId + "@gmail.com", memberId, "member" + memberId,
+                    "https://avatars.githubusercontent.com/u/" + memberId + "?v=4", "https://github.com/member" + memberId);
+            id.set(member, memberId);
+            members.add(member);
+            memberFragmentCache.get(member);
+        }
+    }
+
+    @Benchmark
+    public String withoutCache() throws JsonProcessingException {
+        List<ParticipantResponse> responses = members.stream()
+                .map(member -> new ParticipantResponse(member, PARTICIPATION_DATE))
+                .collect(Collectors.toList());
+        return objectMapper.writeValueAsString(responses);
+    }
+
+    @Benchmark
+    public String withCache() throws JsonProcessingException {
+        List<ParticipantResponse> responses = members.stream()
+                .map(member -> new ParticipantResponse(member, PARTICIPATION_DATE, memberFragmentCache.get(member)))
+                .collect(Collectors.toList());
+        return objectMapper.writeValueAsString(responses);
+    }
+}
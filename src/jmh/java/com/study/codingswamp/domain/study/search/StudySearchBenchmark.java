@@ -0,0 +1,122 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.dto.request.SearchCondition;
+import com.study.codingswamp.domain.study.entity.StudyStatus;
+import com.study.codingswamp.domain.study.entity.StudyType;
+import com.study.codingswamp.domain.study.search.tokenizer.NGramTokenizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성한 스터디 제목 말뭉치에서 n-gram 색인 검색과 StudyRepositoryImpl.likeTitle 의 '%제목%' 조회를 비교한다.
+ * like 쪽은 색인이 준비되지 않았을 때의 검색 경로처럼 페이지 조회와 개수 조회를 함께 실행한다.
+ * JPA 를 거치지 않고 QueryDSL 이 만드는 것과 같은 SQL 을 H2(MySQL 모드)에 직접 실행하여 조회 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudySearchBenchmark {
+
+    private static final String[] WORDS = {
+            "자바", "스프링", "모각코", "강남", "알고리즘", "코딩테스트", "리액트", "파이썬", "데이터베이스", "네트워크",
+            "운영체제", "토이프로젝트", "취준", "면접", "백엔드", "프론트엔드", "주말", "평일", "저녁", "온라인"
+    };
+    private static final String[] SUFFIXES = {"스터디", "모집", "같이해요", "함께", "구해요"};
+    private static final int PAGE_SIZE = 8;
+
+    @Param({"10000", "100000"})
+    private int corpusSize;
+
+    @Param({"각코", "스터디", "코딩테스트"})
+    private String title;
+
+    private StudySearchIndex studySearchIndex;
+    private Connection connection;
+    private PreparedStatement pageStatement;
+    private PreparedStatement countStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        studySearchIndex = new StudySearchIndex(new NGramTokenizer());
+        connection = DriverManager.getConnection("jdbc:h2:mem:benchmark;MODE=MySQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table study (study_id bigint primary key, title varchar(255) not null)");
+        }
+
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("insert into study (study_id, title) values (?, ?)")) {
+            for (long studyId = 1; studyId <= corpusSize; studyId++) {
+                String studyTitle = createTitle(random);
+                studySearchIndex.load(new StudyDocument(studyId, studyTitle, "설명입니다.", StudyType.STUDY,
+                        StudyStatus.PREPARING, 1, List.of()));
+                insert.setLong(1, studyId);
+                insert.setString(2, studyTitle);
+                insert.addBatch();
+                if (studyId % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        studySearchIndex.markReady();
+
+        pageStatement = connection.prepareStatement(
+                "select study_id from study where title like ? escape '!' order by study_id desc limit ? offset ?");
+        countStatement = connection.prepareStatement(
+                "select count(study_id) from study where title like ? escape '!'");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table study");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public StudySearchResult ngramIndex() {
+        return studySearchIndex.search(new SearchCondition(1, PAGE_SIZE, title, null, null, null, false, null));
+    }
+
+    @Benchmark
+    public void likeTitle(Blackhole blackhole) throws SQLException {
+        String pattern = "%" + title + "%";
+        pageStatement.setString(1, pattern);
+        pageStatement.setInt(2, PAGE_SIZE);
+        pageStatement.setInt(3, 0);
+        try (ResultSet resultSet = pageStatement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+        countStatement.setString(1, pattern);
+        try (ResultSet resultSet = countStatement.executeQuery()) {
+            resultSet.next();
+            blackhole.consume(resultSet.getLong(1));
+        }
+    }
+
+    private String createTitle(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int wordCount = 2 + random.nextInt(3);
+        for (int i = 0; i < wordCount; i++) {
+            // 띄어쓰기 없이 붙여 쓴 제목도 섞는다.
+            if (i > 0 && random.nextBoolean()) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.append(' ').append(SUFFIXES[random.nextInt(SUFFIXES.length)]).toString();
+    }
+}
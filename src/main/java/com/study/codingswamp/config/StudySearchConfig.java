@@ -0,0 +1,20 @@
+package com.study.codingswamp.config;
+
+import com.study.codingswamp.domain.study.search.tokenizer.EdgeNGramTokenizer;
+import com.study.codingswamp.domain.study.search.tokenizer.NGramTokenizer;
+import com.study.codingswamp.domain.study.search.tokenizer.Tokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StudySearchConfig {
+
+    @Bean
+    public Tokenizer tokenizer(@Value("${app.search.tokenizer:ngram}") String tokenizer) {
+        if (tokenizer.equals("edge")) {
+            return new EdgeNGramTokenizer();
+        }
+        return new NGramTokenizer();
+    }
+}
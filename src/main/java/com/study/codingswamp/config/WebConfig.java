@@ -2,6 +2,7 @@ package com.study.codingswamp.config;
 
 import com.study.codingswamp.presentation.common.AuthenticatedMemberResolver;
 import com.study.codingswamp.presentation.common.AuthenticationInterceptor;
+import com.study.codingswamp.presentation.common.IdempotencyInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -17,6 +18,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final AuthenticatedMemberResolver authenticatedMemberResolver;
     private final AuthenticationInterceptor authenticationInterceptor;
+    private final IdempotencyInterceptor idempotencyInterceptor;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -27,6 +29,8 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(authenticationInterceptor)
                 .addPathPatterns("/**");
+        registry.addInterceptor(idempotencyInterceptor)
+                .addPathPatterns("/**");
     }
 
     @Override
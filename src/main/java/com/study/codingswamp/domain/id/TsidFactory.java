@@ -0,0 +1,50 @@
+package com.study.codingswamp.domain.id;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * 시간순으로 정렬되는 53비트 식별자를 만든다. (41비트 밀리초 | 4비트 노드 | 8비트 시퀀스)
+ * 자바스크립트 Number 로도 정확히 표현되도록 2^53 보다 작게 유지하므로 응답의 id 는 숫자 그대로 내려간다.
+ * 한 노드에서 밀리초당 256개를 넘게 만들면 다음 밀리초를 미리 빌려 쓰고, 시계가 뒤로 가도 마지막 시각을 이어 쓴다.
+ */
+public class TsidFactory {
+
+    static final long EPOCH = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final Clock clock;
+    private final long node;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public TsidFactory(int node) {
+        this(node, Clock.systemUTC());
+    }
+
+    TsidFactory(int node, Clock clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("node 는 0 이상 " + MAX_NODE + " 이하여야 합니다: " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public synchronized long next() {
+        long timestamp = Math.max(clock.millis() - EPOCH, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return timestamp << (NODE_BITS + SEQUENCE_BITS) | node << SEQUENCE_BITS | sequence;
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.codingswamp.domain.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * {@link TsidFactory} 로 식별자를 만드는 Hibernate 생성기. IDENTITY 와 달리 INSERT 전에 id 를 알 수 있어
+ * hibernate.jdbc.batch_size 로 INSERT 를 묶어 보낼 수 있다.
+ * 서버를 여러 대 띄울 때는 hibernate.id.node (app.id.node) 를 서버마다 다르게 준다.
+ */
+public class TsidGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "tsid";
+    public static final String STRATEGY = "com.study.codingswamp.domain.id.TsidGenerator";
+    public static final String NODE_SETTING = "hibernate.id.node";
+
+    private TsidFactory tsidFactory;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+        Object node = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_SETTING);
+        tsidFactory = new TsidFactory(node == null ? 0 : Integer.parseInt(node.toString()));
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return tsidFactory.next();
+    }
+}
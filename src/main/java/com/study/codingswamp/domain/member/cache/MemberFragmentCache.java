@@ -0,0 +1,95 @@
+package com.study.codingswamp.domain.member.cache;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.study.codingswamp.domain.member.entity.Member;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 참가자, 스터디장 응답에 들어가는 회원 필드("memberId", "username", "imageUrl", "profileUrl")를
+ * 미리 직렬화한 UTF-8 조각으로 memberId 와 프로필 버전별로 보관한다.
+ * 조각은 {@link com.study.codingswamp.domain.study.dto.response.MemberFragmentSerializer} 가 응답에 그대로 이어 붙인다.
+ */
+@Component
+public class MemberFragmentCache {
+
+    private final Map<Long, CachedFragment> fragments = new ConcurrentHashMap<>();
+    private final int maximumSize;
+
+    public MemberFragmentCache(@Value("${app.cache.member-fragment.maximum-size:10000}") int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public SerializedString get(Member member) {
+        Long memberId = member.getId();
+        if (memberId == null) {
+            return serialize(member);
+        }
+        long profileVersion = member.getProfileVersion();
+        CachedFragment cached = fragments.get(memberId);
+        if (cached != null && cached.profileVersion == profileVersion) {
+            return cached.fragment;
+        }
+        SerializedString fragment = serialize(member);
+        if (cached != null || fragments.size() < maximumSize) {
+            fragments.put(memberId, new CachedFragment(profileVersion, fragment));
+        }
+        return fragment;
+    }
+
+    /**
+     * 회원 프로필이 바뀌면 조각을 버린다. 커밋 전 읽기가 이전 프로필을 다시 넣을 수 있으므로 트랜잭션 완료 후 한 번 더 버린다.
+     */
+    public void invalidate(Long memberId) {
+        fragments.remove(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    fragments.remove(memberId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return fragments.size();
+    }
+
+    public static SerializedString serialize(Member member) {
+        StringBuilder builder = new StringBuilder(128);
+        builder.append("\"memberId\":").append(member.getId());
+        appendField(builder, "username", member.getUsername());
+        appendField(builder, "imageUrl", member.getImageUrl());
+        appendField(builder, "profileUrl", member.getProfileUrl());
+        return new SerializedString(builder.toString());
+    }
+
+    private static void appendField(StringBuilder builder, String name, String value) {
+        builder.append(",\"").append(name).append("\":");
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        JsonStringEncoder.getInstance().quoteAsString(value, builder);
+        builder.append('"');
+    }
+
+    private static class CachedFragment {
+
+        private final long profileVersion;
+        private final SerializedString fragment;
+
+        private CachedFragment(long profileVersion, SerializedString fragment) {
+            this.profileVersion = profileVersion;
+            this.fragment = fragment;
+        }
+    }
+}
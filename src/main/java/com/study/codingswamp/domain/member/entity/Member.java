@@ -17,6 +17,7 @@ import java.time.LocalDateTime;
 //@Where(clause = "deleted = false")
 public class Member {
 
+    // 가입 요청마다 한 건씩 INSERT 하므로 묶어 보낼 것이 없어 IDENTITY 를 그대로 쓴다.
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "member_id")
@@ -43,6 +44,11 @@ public class Member {
 
     private final boolean deleted = Boolean.FALSE;
 
+    /**
+     * 응답에 노출되는 프로필(username, imageUrl, profileUrl)이 바뀔 때마다 증가한다.
+     */
+    private long profileVersion;
+
     @PrePersist
     public void onPrePersist() {
         this.joinedAt = LocalDateTime.now();
@@ -69,17 +75,21 @@ public class Member {
         this.username = username;
         this.imageUrl = imageUrl;
         this.profileUrl = profileUrl;
+        this.profileVersion++;
     }
 
     public void updateImageUrl(String imageUrl) {
         this.imageUrl = imageUrl;
+        this.profileVersion++;
     }
 
     public void updateUsername(String username) {
         this.username = username;
+        this.profileVersion++;
     }
 
     public void updateProfileUrl(String profileUrl) {
         this.profileUrl = profileUrl;
+        this.profileVersion++;
     }
 }
@@ -0,0 +1,60 @@
+package com.study.codingswamp.domain.member.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴한 회원의 연관 데이터 정리 작업. 단계(stage)를 체크포인트로 저장하므로 중간에 서버가 내려가도 이어서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+public class MemberCleanup {
+
+    // 탈퇴 한 건마다 한 행만 만들므로 IDENTITY 를 그대로 쓴다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_cleanup_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long memberId;
+
+    private String imageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MemberCleanupStage stage = MemberCleanupStage.OWNED_STUDIES;
+
+    private long processedCount;
+
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime completedAt;
+
+    public MemberCleanup(Long memberId, String imageUrl) {
+        this.memberId = memberId;
+        this.imageUrl = imageUrl;
+        this.requestedAt = LocalDateTime.now();
+    }
+
+    public void record(int count) {
+        this.processedCount += count;
+    }
+
+    public void advance() {
+        this.stage = stage.next();
+        if (isCompleted()) {
+            this.completedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isCompleted() {
+        return stage == MemberCleanupStage.COMPLETED;
+    }
+}
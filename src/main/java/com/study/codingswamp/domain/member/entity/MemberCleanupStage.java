@@ -0,0 +1,13 @@
+package com.study.codingswamp.domain.member.entity;
+
+public enum MemberCleanupStage {
+
+    OWNED_STUDIES, PARTICIPATIONS, APPLICATIONS, IMAGE, COMPLETED;
+
+    public MemberCleanupStage next() {
+        if (this == COMPLETED) {
+            return COMPLETED;
+        }
+        return values()[ordinal() + 1];
+    }
+}
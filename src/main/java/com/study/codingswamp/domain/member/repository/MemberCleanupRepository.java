@@ -0,0 +1,15 @@
+package com.study.codingswamp.domain.member.repository;
+
+import com.study.codingswamp.domain.member.entity.MemberCleanup;
+import com.study.codingswamp.domain.member.entity.MemberCleanupStage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberCleanupRepository extends JpaRepository<MemberCleanup, Long> {
+
+    List<MemberCleanup> findTop10ByStageNotOrderByIdAsc(MemberCleanupStage stage);
+
+    Optional<MemberCleanup> findByMemberId(Long memberId);
+}
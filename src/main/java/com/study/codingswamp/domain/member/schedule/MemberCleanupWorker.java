@@ -0,0 +1,51 @@
+package com.study.codingswamp.domain.member.schedule;
+
+import com.study.codingswamp.domain.member.entity.MemberCleanup;
+import com.study.codingswamp.domain.member.entity.MemberCleanupStage;
+import com.study.codingswamp.domain.member.repository.MemberCleanupRepository;
+import com.study.codingswamp.domain.member.service.MemberCleanupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 탈퇴 요청과 분리하여 회원 정리 작업을 진행한다. 한 번 실행할 때 batchesPerRun 배치까지만 처리해 DB 부하를 제한하고,
+ * 남은 작업은 저장된 단계부터 다음 실행에서 이어 간다.
+ */
+@Component
+@Slf4j
+public class MemberCleanupWorker {
+
+    private final MemberCleanupRepository memberCleanupRepository;
+    private final MemberCleanupService memberCleanupService;
+    private final int batchesPerRun;
+
+    public MemberCleanupWorker(MemberCleanupRepository memberCleanupRepository,
+                               MemberCleanupService memberCleanupService,
+                               @Value("${app.member.cleanup.batches-per-run:20}") int batchesPerRun) {
+        this.memberCleanupRepository = memberCleanupRepository;
+        this.memberCleanupService = memberCleanupService;
+        this.batchesPerRun = batchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.member.cleanup.fixed-delay:10000}")
+    public void cleanUpDeletedMembers() {
+        int remainingBatches = batchesPerRun;
+        List<MemberCleanup> cleanups = memberCleanupRepository.findTop10ByStageNotOrderByIdAsc(MemberCleanupStage.COMPLETED);
+        for (MemberCleanup cleanup : cleanups) {
+            boolean hasMore = true;
+            while (hasMore && remainingBatches > 0) {
+                hasMore = memberCleanupService.runBatch(cleanup.getId());
+                remainingBatches--;
+            }
+            if (hasMore) {
+                log.info("Member cleanup throttled memberId={}", cleanup.getMemberId());
+                return;
+            }
+            log.info("Member cleanup completed memberId={}", cleanup.getMemberId());
+        }
+    }
+}
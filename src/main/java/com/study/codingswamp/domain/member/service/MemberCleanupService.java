@@ -0,0 +1,131 @@
+package com.study.codingswamp.domain.member.service;
+
+import com.study.codingswamp.application.file.FileStore;
+import com.study.codingswamp.domain.member.entity.MemberCleanup;
+import com.study.codingswamp.domain.member.repository.MemberCleanupRepository;
+import com.study.codingswamp.domain.study.cache.StudyDetailCache;
+import com.study.codingswamp.domain.study.entity.Participant;
+import com.study.codingswamp.domain.study.repository.ApplicantRepository;
+import com.study.codingswamp.domain.study.repository.ParticipantRepository;
+import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.domain.study.repository.WaitingApplicantRepository;
+import com.study.codingswamp.domain.study.service.StudyService;
+import com.study.codingswamp.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 탈퇴한 회원이 남긴 스터디, 참가, 신청, 프로필 이미지를 단계별로 batchSize 개씩 정리한다.
+ * 한 번의 호출이 한 트랜잭션이며, 처리할 것이 없으면 다음 단계로 넘어간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberCleanupService {
+
+    private final MemberCleanupRepository memberCleanupRepository;
+    private final StudyRepository studyRepository;
+    private final ParticipantRepository participantRepository;
+    private final ApplicantRepository applicantRepository;
+    private final WaitingApplicantRepository waitingApplicantRepository;
+    private final StudyService studyService;
+    private final StudyDetailCache studyDetailCache;
+    private final FileStore fileStore;
+
+    @Value("${app.member.cleanup.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 현재 단계를 한 배치만큼 진행하고 남은 작업이 있으면 true 를 반환한다.
+     */
+    @Transactional
+    public boolean runBatch(Long memberCleanupId) {
+        MemberCleanup cleanup = memberCleanupRepository.findById(memberCleanupId)
+                .orElseThrow(() -> new NotFoundException("memberCleanup", "회원 정리 작업을 찾을 수 없습니다."));
+        if (cleanup.isCompleted()) {
+            return false;
+        }
+
+        int processedCount = process(cleanup);
+        if (processedCount == 0) {
+            cleanup.advance();
+        } else {
+            cleanup.record(processedCount);
+        }
+        return !cleanup.isCompleted();
+    }
+
+    private int process(MemberCleanup cleanup) {
+        Long memberId = cleanup.getMemberId();
+        switch (cleanup.getStage()) {
+            case OWNED_STUDIES:
+                return handOverOwnedStudies(memberId);
+            case PARTICIPATIONS:
+                return withdrawParticipations(memberId);
+            case APPLICATIONS:
+                return deleteApplications(memberId);
+            case IMAGE:
+                deleteImage(cleanup);
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
+    private int handOverOwnedStudies(Long memberId) {
+        List<Long> studyIds = studyRepository.findOwnedStudyIds(memberId, batchSize);
+        studyIds.forEach(studyService::handOverOrClose);
+        return studyIds.size();
+    }
+
+    /**
+     * 삭제 대기 중인 스터디는 인원 수와 읽기 모델을 건드리지 않고 행만 지운다.
+     * 그 밖의 스터디는 탈퇴와 같은 경로로 인원 수를 줄이고 대기자를 올린다.
+     */
+    private int withdrawParticipations(Long memberId) {
+        List<Participant> participants = participantRepository.findParticipations(memberId, batchSize);
+        for (Participant participant : participants) {
+            if (participant.getStudy().isDeleting()) {
+                participantRepository.delete(participant);
+            } else {
+                studyService.leave(participant);
+            }
+        }
+        return participants.size();
+    }
+
+    private int deleteApplications(Long memberId) {
+        List<Long> applicantIds = applicantRepository.findIdsByMemberId(memberId, batchSize);
+        List<Long> waitingApplicantIds = waitingApplicantRepository.findIdsByMemberId(memberId, batchSize);
+        if (!applicantIds.isEmpty()) {
+            applicantRepository.deleteAllByIdInBatch(applicantIds);
+        }
+        if (!waitingApplicantIds.isEmpty()) {
+            waitingApplicantRepository.deleteAllByIdInBatch(waitingApplicantIds);
+        }
+        if (!applicantIds.isEmpty() || !waitingApplicantIds.isEmpty()) {
+            studyDetailCache.invalidateAll();
+        }
+        return applicantIds.size() + waitingApplicantIds.size();
+    }
+
+    /**
+     * 이미지 저장소 오류로 정리 작업 전체가 멈추지 않도록 실패는 기록만 하고 넘어간다.
+     */
+    private void deleteImage(MemberCleanup cleanup) {
+        if (cleanup.getImageUrl() == null) {
+            return;
+        }
+        try {
+            fileStore.deleteFile(cleanup.getImageUrl());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete image of deleted member memberId={}", cleanup.getMemberId(), e);
+        }
+    }
+}
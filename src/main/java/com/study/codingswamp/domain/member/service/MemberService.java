@@ -2,11 +2,15 @@ package com.study.codingswamp.domain.member.service;
 
 import com.study.codingswamp.application.auth.service.request.CommonLoginRequest;
 import com.study.codingswamp.application.file.FileStore;
+import com.study.codingswamp.domain.member.cache.MemberFragmentCache;
 import com.study.codingswamp.domain.member.dto.request.MemberEditRequest;
 import com.study.codingswamp.domain.member.dto.request.MemberSignupRequest;
 import com.study.codingswamp.domain.member.dto.response.MemberResponse;
 import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.member.entity.MemberCleanup;
+import com.study.codingswamp.domain.member.repository.MemberCleanupRepository;
 import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.cache.StudyDetailCache;
 import com.study.codingswamp.exception.ConflictException;
 import com.study.codingswamp.exception.NotFoundException;
 import com.study.codingswamp.exception.UnauthorizedException;
@@ -25,6 +29,9 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final FileStore fileStore;
     private final PasswordEncoder passwordEncoder;
+    private final StudyDetailCache studyDetailCache;
+    private final MemberFragmentCache memberFragmentCache;
+    private final MemberCleanupRepository memberCleanupRepository;
 
     @Transactional
     public MemberResponse signup(MemberSignupRequest memberSignupRequest) {
@@ -66,6 +73,8 @@ public class MemberService {
             findMember.get().update(
                     loginMember.getUsername(), loginMember.getEmail(), loginMember.getImageUrl(), loginMember.getProfileUrl()
             );
+            memberFragmentCache.invalidate(findMember.get().getId());
+            studyDetailCache.invalidateAll();
             return new MemberResponse(findMember.get());
         }
         return new MemberResponse(memberRepository.save(loginMember));
@@ -85,6 +94,8 @@ public class MemberService {
         if (request.getProfileUrl() != null) {
             member.updateProfileUrl(request.getProfileUrl());
         }
+        memberFragmentCache.invalidate(memberId);
+        studyDetailCache.invalidateAll();
         return new MemberResponse(member);
     }
 
@@ -95,9 +106,12 @@ public class MemberService {
             throw new UnauthorizedException("github", "깃허브 사용자는 회원탈퇴가 불가능합니다. ");
         }
 
-        deleteFileIfExists(member);
-        // TODO applicant, participant, study 외래키 제약조건 다 지워줄 수 있게 하기
+        if (memberCleanupRepository.findByMemberId(memberId).isEmpty()) {
+            memberCleanupRepository.save(new MemberCleanup(memberId, member.getImageUrl()));
+        }
         memberRepository.delete(member);
+        memberFragmentCache.invalidate(memberId);
+        studyDetailCache.invalidateAll();
     }
 
     private void fileUpdateOrSave(MemberEditRequest request, Member member) {
@@ -0,0 +1,170 @@
+package com.study.codingswamp.domain.study.cache;
+
+import com.study.codingswamp.domain.study.dto.response.StudyDetailResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 스터디 상세 응답을 studyId 와 버전으로 캐시한다.
+ * 버전은 전역 시퀀스에서 발급하며, 스터디가 변경될 때마다 새 버전을 받는다.
+ * 캐시된 응답은 저장 당시의 버전이 현재 버전과 같을 때만 사용하고, 크기를 넘으면 가장 오래 사용하지 않은 항목부터 내보낸다.
+ * 같은 버전으로 ETag 도 만든다. 시퀀스는 재시작하면 처음부터 다시 세므로 기동 시각을 앞에 붙인다.
+ */
+@Component
+public class StudyDetailCache {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final Map<Long, CachedStudyDetail> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private volatile long invalidatedAllVersion;
+
+    public StudyDetailCache(@Value("${app.cache.study-detail.maximum-size:1000}") int maximumSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedStudyDetail> eldest) {
+                if (size() > maximumSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public StudyDetailResponse get(Long studyId, Function<Long, StudyDetailResponse> loader) {
+        long version = getVersion(studyId);
+        synchronized (entries) {
+            CachedStudyDetail cached = entries.get(studyId);
+            if (cached != null && cached.version == version) {
+                hitCount.incrementAndGet();
+                return cached.response;
+            }
+        }
+        missCount.incrementAndGet();
+        StudyDetailResponse response = loader.apply(studyId);
+        synchronized (entries) {
+            // 조회하는 동안 버전이 바뀌었다면 이미 오래된 응답이므로 저장하지 않는다.
+            if (getVersion(studyId) == version) {
+                entries.put(studyId, new CachedStudyDetail(version, response));
+            }
+        }
+        return response;
+    }
+
+    public long getVersion(Long studyId) {
+        return Math.max(versions.getOrDefault(studyId, 0L), invalidatedAllVersion);
+    }
+
+    /**
+     * 스터디 상세의 ETag. 스터디나 회원 정보가 바뀌면 달라진다.
+     */
+    public String getVersionTag(Long studyId) {
+        return epoch + "-" + getVersion(studyId);
+    }
+
+    /**
+     * 스터디 목록의 ETag. 어느 스터디든 바뀌면 전역 시퀀스가 올라가므로 달라진다.
+     */
+    public String getGlobalVersionTag() {
+        return epoch + "-" + sequence.get();
+    }
+
+    /**
+     * 스터디의 버전을 올린다. 트랜잭션 안이라면 커밋 전 읽기가 이전 데이터를 새 버전으로 캐시하지 않도록 완료 후 한 번 더 올린다.
+     */
+    public void invalidate(Long studyId) {
+        bump(studyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(studyId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 삭제된 스터디의 버전과 캐시 항목을 지운다. 트랜잭션 안이라면 롤백될 수 있으므로 커밋된 뒤에 지운다.
+     * 삭제는 flush 때 가장 늦게 알려지므로, 같은 트랜잭션의 {@link #invalidate} 가 완료 후 다시 버전을 만들지 않도록 완료 시점에 지운다.
+     */
+    public void remove(Long studyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            forget(studyId);
+            return;
+        }
+        bump(studyId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    forget(studyId);
+                } else {
+                    bump(studyId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 여러 스터디 상세에 함께 노출되는 회원 정보가 바뀌었을 때 모든 항목을 무효화한다.
+     */
+    public void invalidateAll() {
+        invalidatedAllVersion = sequence.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidatedAllVersion = sequence.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    public StudyDetailCacheStats getStats() {
+        synchronized (entries) {
+            return new StudyDetailCacheStats(hitCount.get(), missCount.get(), evictionCount.get(), entries.size(),
+                    versions.size());
+        }
+    }
+
+    private void bump(Long studyId) {
+        versions.put(studyId, sequence.incrementAndGet());
+        synchronized (entries) {
+            entries.remove(studyId);
+        }
+    }
+
+    private void forget(Long studyId) {
+        versions.remove(studyId);
+        synchronized (entries) {
+            entries.remove(studyId);
+        }
+    }
+
+    private static class CachedStudyDetail {
+
+        private final long version;
+        private final StudyDetailResponse response;
+
+        private CachedStudyDetail(long version, StudyDetailResponse response) {
+            this.version = version;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.study.codingswamp.domain.study.cache;
+
+import com.study.codingswamp.domain.study.entity.Study;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * StudyService 를 거치지 않는 Study 변경(상태 스케줄러 등)에도 상세 캐시 버전을 올린다.
+ */
+public class StudyDetailCacheListener {
+
+    private final StudyDetailCache studyDetailCache;
+
+    public StudyDetailCacheListener(StudyDetailCache studyDetailCache) {
+        this.studyDetailCache = studyDetailCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void invalidate(Study study) {
+        studyDetailCache.invalidate(study.getId());
+    }
+
+    @PostRemove
+    public void remove(Study study) {
+        studyDetailCache.remove(study.getId());
+    }
+}
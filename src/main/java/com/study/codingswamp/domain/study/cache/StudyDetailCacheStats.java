@@ -0,0 +1,26 @@
+package com.study.codingswamp.domain.study.cache;
+
+import lombok.Getter;
+
+@Getter
+public class StudyDetailCacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int versionCount;
+
+    public StudyDetailCacheStats(long hitCount, long missCount, long evictionCount, int size, int versionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.versionCount = versionCount;
+    }
+
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,112 @@
+package com.study.codingswamp.domain.study.card;
+
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.StudyCard;
+import com.study.codingswamp.domain.study.repository.StudyCardJdbcRepository;
+import com.study.codingswamp.domain.study.repository.StudyCardRepository;
+import com.study.codingswamp.domain.study.repository.StudyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션 시작 시 카드가 없는 스터디의 study_card 를 채우고,
+ * 태그가 예전 콤마 형식으로 남은 카드는 study_tag 를 다시 읽어 {@link com.study.codingswamp.domain.study.entity.StudyCardTags} 형식으로 고쳐 쓴다.
+ * 콤마가 든 태그는 예전 형식에서 나눠져 보이고, 긴 목록은 새 형식에서 컬럼 길이에 맞게 잘린 채 잘렸다고 표시된다.
+ */
+@Slf4j
+@Component
+public class StudyCardInitializer {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final StudyRepository studyRepository;
+    private final StudyCardRepository studyCardRepository;
+    private final StudyCardJdbcRepository studyCardJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudyCardInitializer(StudyRepository studyRepository, StudyCardRepository studyCardRepository,
+                                StudyCardJdbcRepository studyCardJdbcRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.studyRepository = studyRepository;
+        this.studyCardRepository = studyCardRepository;
+        this.studyCardJdbcRepository = studyCardJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        CursorRequest cursorRequest = new CursorRequest(CursorRequest.NONE_KEY, BATCH_SIZE);
+        int insertedCount = 0;
+        List<Study> studies;
+        do {
+            CursorRequest request = cursorRequest;
+            List<Study> batch = transactionTemplate.execute(status -> studyRepository.getStudies(request));
+            studies = batch == null ? new ArrayList<>() : batch;
+            if (!studies.isEmpty()) {
+                insertedCount += insertMissingCards(studies);
+                cursorRequest = cursorRequest.next(studies.get(studies.size() - 1).getId());
+            }
+        } while (studies.size() == BATCH_SIZE);
+        log.info("Study card backfill finished inserted={}", insertedCount);
+        rewriteLegacyTags();
+    }
+
+    private void rewriteLegacyTags() {
+        Long afterStudyId = CursorRequest.NONE_KEY;
+        int rewrittenCount = 0;
+        List<Long> studyIds;
+        do {
+            Long after = afterStudyId;
+            List<Long> batch = transactionTemplate.execute(status -> {
+                List<Long> legacyStudyIds = studyCardJdbcRepository.findLegacyTagStudyIds(after, BATCH_SIZE);
+                if (!legacyStudyIds.isEmpty()) {
+                    Map<Long, List<String>> tagTexts = studyRepository.findTagTextsByStudyIds(legacyStudyIds);
+                    legacyStudyIds.forEach(studyId ->
+                            studyCardJdbcRepository.updateTags(studyId, tagTexts.getOrDefault(studyId, new ArrayList<>())));
+                }
+                return legacyStudyIds;
+            });
+            studyIds = batch == null ? new ArrayList<>() : batch;
+            if (!studyIds.isEmpty()) {
+                rewrittenCount += studyIds.size();
+                afterStudyId = studyIds.get(studyIds.size() - 1);
+            }
+        } while (studyIds.size() == BATCH_SIZE);
+        log.info("Study card legacy tag rewrite finished rewritten={}", rewrittenCount);
+    }
+
+    private int insertMissingCards(List<Study> studies) {
+        Integer insertedCount = transactionTemplate.execute(status -> {
+            List<Long> studyIds = studies.stream()
+                    .map(Study::getId)
+                    .collect(Collectors.toList());
+            Set<Long> cardIds = studyCardRepository.findAllById(studyIds)
+                    .stream()
+                    .map(StudyCard::getId)
+                    .collect(Collectors.toSet());
+            List<Study> missingStudies = studies.stream()
+                    .filter(study -> !cardIds.contains(study.getId()))
+                    .collect(Collectors.toList());
+            if (missingStudies.isEmpty()) {
+                return 0;
+            }
+            Map<Long, List<String>> tagTexts = studyRepository.findTagTextsByStudyIds(
+                    missingStudies.stream().map(Study::getId).collect(Collectors.toList()));
+            missingStudies.forEach(study ->
+                    studyCardJdbcRepository.insert(study, tagTexts.getOrDefault(study.getId(), new ArrayList<>())));
+            return missingStudies.size();
+        });
+        return insertedCount == null ? 0 : insertedCount;
+    }
+}
@@ -0,0 +1,62 @@
+package com.study.codingswamp.domain.study.card;
+
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.Tag;
+import com.study.codingswamp.domain.study.repository.StudyCardJdbcRepository;
+import org.hibernate.Hibernate;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Study 엔티티가 저장, 수정, 삭제될 때 같은 트랜잭션에서 study_card 읽기 모델을 갱신한다.
+ */
+public class StudyCardListener {
+
+    private final StudyCardJdbcRepository studyCardJdbcRepository;
+
+    public StudyCardListener(StudyCardJdbcRepository studyCardJdbcRepository) {
+        this.studyCardJdbcRepository = studyCardJdbcRepository;
+    }
+
+    @PostPersist
+    public void insert(Study study) {
+        List<String> tagTexts = getTagTexts(study);
+        studyCardJdbcRepository.insert(study, tagTexts == null ? new ArrayList<>() : tagTexts);
+    }
+
+    @PostUpdate
+    public void update(Study study) {
+        List<String> tagTexts = getTagTexts(study);
+        int updatedCount = studyCardJdbcRepository.update(study, tagTexts);
+        // 카드가 아직 없는데 태그를 알 수 없으면 StudyCardInitializer 가 채우도록 둔다.
+        if (updatedCount == 0 && tagTexts != null) {
+            studyCardJdbcRepository.insert(study, tagTexts);
+        }
+    }
+
+    @PostRemove
+    public void delete(Study study) {
+        studyCardJdbcRepository.deleteById(study.getId());
+    }
+
+    /**
+     * flush 도중에는 지연 로딩을 일으키지 않는다. 초기화되지 않은 태그는 변경되지 않은 것이므로 null 을 반환한다.
+     */
+    private List<String> getTagTexts(Study study) {
+        if (study.getTags() == null) {
+            return new ArrayList<>();
+        }
+        if (!Hibernate.isInitialized(study.getTags())) {
+            return null;
+        }
+        return study.getTags()
+                .stream()
+                .map(Tag::getTagText)
+                .collect(Collectors.toList());
+    }
+}
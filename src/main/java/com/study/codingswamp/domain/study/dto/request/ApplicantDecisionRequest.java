@@ -0,0 +1,47 @@
+package com.study.codingswamp.domain.study.dto.request;
+
+import com.study.codingswamp.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicantDecisionRequest {
+
+    private static final int MAX_SIZE = 100;
+
+    @NotNull
+    @Size(max = MAX_SIZE)
+    private List<Long> approvedMemberIds = new ArrayList<>();
+
+    @NotNull
+    @Size(max = MAX_SIZE)
+    private List<Long> rejectedMemberIds = new ArrayList<>();
+
+    public void validate() {
+        if (approvedMemberIds.isEmpty() && rejectedMemberIds.isEmpty()) {
+            throw new InvalidRequestException("approvedMemberIds", "승인하거나 거절할 신청자가 없습니다.");
+        }
+        Set<Long> memberIds = new HashSet<>();
+        for (Long memberId : collectDecidedMemberIds()) {
+            if (memberId == null || !memberIds.add(memberId)) {
+                throw new InvalidRequestException("approvedMemberIds", "신청자는 한 번씩만 승인하거나 거절할 수 있습니다.");
+            }
+        }
+    }
+
+    public List<Long> collectDecidedMemberIds() {
+        List<Long> memberIds = new ArrayList<>(approvedMemberIds);
+        memberIds.addAll(rejectedMemberIds);
+        return memberIds;
+    }
+}
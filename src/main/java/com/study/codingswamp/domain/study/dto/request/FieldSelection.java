@@ -0,0 +1,84 @@
+package com.study.codingswamp.domain.study.dto.request;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.study.codingswamp.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ?fields= 로 요청한 응답 필드 목록. 직렬화할 필드뿐 아니라 조회할 컬럼과 연관관계를 정하는 데에도 쓴다.
+ * studyId 는 항상 포함한다.
+ */
+public class FieldSelection {
+
+    public static final String FILTER_ID = "fieldSelection";
+    public static final String ID_FIELD = "studyId";
+
+    public static final Set<String> STUDY_FIELDS = Set.of(
+            "studyId", "title", "studyType", "thumbnail", "studyStatus", "currentMemberCount",
+            "maxMemberCount", "startDate", "endDate", "tags", "createdAt"
+    );
+    public static final Set<String> STUDY_DETAIL_FIELDS = Set.of(
+            "studyId", "title", "description", "studyType", "thumbnail", "studyStatus", "currentMemberCount",
+            "maxMemberCount", "startDate", "endDate", "owner", "participantCount", "applicantCount",
+            "participants", "applicants", "tags", "createdAt"
+    );
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection of(String fields, Set<String> allowedFields) {
+        if (!StringUtils.hasText(fields)) {
+            return ALL;
+        }
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : selected) {
+            if (!allowedFields.contains(field)) {
+                throw new InvalidRequestException("fields", "선택할 수 없는 필드입니다: " + field);
+            }
+        }
+        selected.add(ID_FIELD);
+        return new FieldSelection(Collections.unmodifiableSet(selected));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return isAll() || fields.contains(field);
+    }
+
+    public FilterProvider toFilterProvider() {
+        SimpleBeanPropertyFilter filter = isAll()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+    }
+
+    /**
+     * 필터를 지정하지 않은 응답에서도 @JsonFilter 가 붙은 DTO 를 직렬화할 수 있도록 모든 필드를 쓰는 기본 필터.
+     */
+    public static FilterProvider defaultFilterProvider() {
+        return ALL.toFilterProvider();
+    }
+}
@@ -4,6 +4,11 @@ import com.study.codingswamp.exception.InvalidRequestException;
 import com.study.codingswamp.domain.study.entity.StudyType;
 import lombok.Getter;
 import lombok.ToString;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -19,13 +24,20 @@ public class SearchCondition {
     private final String title;
     private final String studyType;
     private final String tag;
+    private final String tagMatch;
+    private final boolean approximateCount;
+    private final String sort;
 
-    public SearchCondition(Integer page, Integer size, String title, String studyType, String tag) {
+    public SearchCondition(Integer page, Integer size, String title, String studyType, String tag, String tagMatch,
+                           Boolean approximateCount, String sort) {
         this.page = page == null ? 1 : page;
         this.size = size == null ? 8 : size;
         this.title = title;
         this.studyType = studyType;
         this.tag = tag;
+        this.tagMatch = tagMatch;
+        this.approximateCount = approximateCount != null && approximateCount;
+        this.sort = sort;
     }
 
     public long getOffset() {
@@ -36,7 +48,7 @@ public class SearchCondition {
         return (int) Math.ceil(totalCount.doubleValue() / (double) getValidatedSize());
     }
 
-    private int getValidatedSize() {
+    public int getValidatedSize() {
         return min(size, MAX_SIZE);
     }
 
@@ -51,4 +63,34 @@ public class SearchCondition {
         }
         throw new InvalidRequestException("studyType", "STUDY 또는 MOGAKKO 이어야 합니다.");
     }
+
+    public List<String> getTagKeywords() {
+        if (!StringUtils.hasText(this.tag)) {
+            return List.of();
+        }
+        return Arrays.stream(this.tag.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toList());
+    }
+
+    public boolean matchAnyTag() {
+        if (this.tagMatch == null || this.tagMatch.equals("ALL")) {
+            return false;
+        }
+        if (this.tagMatch.equals("ANY")) {
+            return true;
+        }
+        throw new InvalidRequestException("tagMatch", "ALL 또는 ANY 이어야 합니다.");
+    }
+
+    public boolean sortByRelevance() {
+        if (this.sort == null || this.sort.equals("latest")) {
+            return false;
+        }
+        if (this.sort.equals("relevance")) {
+            return true;
+        }
+        throw new InvalidRequestException("sort", "latest 또는 relevance 이어야 합니다.");
+    }
 }
@@ -100,8 +100,17 @@ public class StudyRequest {
     }
 
     public List<Tag> mapToTag() {
+        validateTags();
         return tags.stream()
                 .map(Tag::new)
                 .collect(Collectors.toList());
     }
+
+    private void validateTags() {
+        for (String tag : tags) {
+            if (tag == null || tag.isBlank()) {
+                throw new InvalidRequestException("tags", "빈 태그는 등록할 수 없습니다.");
+            }
+        }
+    }
 }
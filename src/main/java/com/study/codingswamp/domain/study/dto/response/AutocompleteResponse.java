@@ -0,0 +1,18 @@
+package com.study.codingswamp.domain.study.dto.response;
+
+import com.study.codingswamp.domain.study.search.Suggestion;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AutocompleteResponse {
+
+    private final List<Suggestion> titles;
+    private final List<Suggestion> tags;
+
+    public AutocompleteResponse(List<Suggestion> titles, List<Suggestion> tags) {
+        this.titles = titles;
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.codingswamp.domain.study.dto.response;
+
+import com.study.codingswamp.domain.study.entity.StudyStatus;
+import com.study.codingswamp.domain.study.entity.StudyType;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class FacetsResponse {
+
+    private final Map<StudyType, Long> studyTypes;
+    private final Map<StudyStatus, Long> studyStatuses;
+    private final List<TagFacetResponse> tags;
+
+    public FacetsResponse(Map<StudyType, Long> studyTypes, Map<StudyStatus, Long> studyStatuses, List<TagFacetResponse> tags) {
+        this.studyTypes = studyTypes;
+        this.studyStatuses = studyStatuses;
+        this.tags = tags;
+    }
+
+    /**
+     * facet 을 계산하지 않는 검색에서 돌려준다. 응답 모양은 그대로 두고 값만 비운다.
+     */
+    public static FacetsResponse empty() {
+        return new FacetsResponse(Map.of(), Map.of(), List.of());
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.codingswamp.domain.study.dto.response;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 필드를 미리 직렬화한 조각으로 들고 있을 수 있는 응답. {@link MemberFragmentSerializer} 로 직렬화한다.
+ */
+public interface MemberFragmentResponse {
+
+    /**
+     * 미리 직렬화한 회원 조각. 없으면 null 이고, 회원 필드를 하나씩 직렬화한다.
+     */
+    SerializedString memberFragment();
+
+    Long getMemberId();
+
+    String getUsername();
+
+    String getImageUrl();
+
+    String getProfileUrl();
+
+    LocalDate getParticipationDate();
+}
@@ -0,0 +1,37 @@
+package com.study.codingswamp.domain.study.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * 미리 직렬화한 회원 조각이 있으면 그대로 쓰고 참가일만 직렬화한다.
+ * 생성기는 조각을 필드로 인식하지 않으므로 참가일 앞의 구분자를 직접 쓴다.
+ * 조각이 없거나 들여쓰기를 하는 생성기라면 회원 필드를 하나씩 직렬화한다.
+ */
+public class MemberFragmentSerializer extends StdSerializer<MemberFragmentResponse> {
+
+    public MemberFragmentSerializer() {
+        super(MemberFragmentResponse.class);
+    }
+
+    @Override
+    public void serialize(MemberFragmentResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        SerializedString memberFragment = value.memberFragment();
+        if (memberFragment == null || gen.getPrettyPrinter() != null) {
+            provider.defaultSerializeField("memberId", value.getMemberId(), gen);
+            gen.writeStringField("username", value.getUsername());
+            gen.writeStringField("imageUrl", value.getImageUrl());
+            gen.writeStringField("profileUrl", value.getProfileUrl());
+        } else {
+            gen.writeRaw(memberFragment);
+            gen.writeRaw(',');
+        }
+        provider.defaultSerializeField("participationDate", value.getParticipationDate(), gen);
+        gen.writeEndObject();
+    }
+}
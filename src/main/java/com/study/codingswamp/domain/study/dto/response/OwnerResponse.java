@@ -1,14 +1,17 @@
 package com.study.codingswamp.domain.study.dto.response;
 
 
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.study.codingswamp.domain.member.entity.Member;
-import com.study.codingswamp.domain.study.entity.Study;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.time.LocalDate;
 
 @Getter
-public class OwnerResponse {
+@JsonSerialize(using = MemberFragmentSerializer.class)
+public class OwnerResponse implements MemberFragmentResponse {
 
     private final Long memberId;
     private final String username;
@@ -16,11 +19,24 @@ public class OwnerResponse {
     private final String profileUrl;
     private final LocalDate participationDate;
 
-    public OwnerResponse(Study study, Member owner) {
+    @Getter(AccessLevel.NONE)
+    private final SerializedString memberFragment;
+
+    public OwnerResponse(Member owner, LocalDate participationDate) {
+        this(owner, participationDate, null);
+    }
+
+    public OwnerResponse(Member owner, LocalDate participationDate, SerializedString memberFragment) {
         this.memberId = owner.getId();
         this.username = owner.getUsername();
         this.imageUrl = owner.getImageUrl();
         this.profileUrl = owner.getProfileUrl();
-        this.participationDate = study.getOwnerParticipationDate();
+        this.participationDate = participationDate;
+        this.memberFragment = memberFragment;
+    }
+
+    @Override
+    public SerializedString memberFragment() {
+        return memberFragment;
     }
 }
@@ -1,12 +1,16 @@
 package com.study.codingswamp.domain.study.dto.response;
 
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.study.codingswamp.domain.member.entity.Member;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.time.LocalDate;
 
 @Getter
-public class ParticipantResponse {
+@JsonSerialize(using = MemberFragmentSerializer.class)
+public class ParticipantResponse implements MemberFragmentResponse {
 
     private final Long memberId;
     private final String username;
@@ -14,19 +18,28 @@ public class ParticipantResponse {
     private final String profileUrl;
     private final LocalDate participationDate;
 
-    public ParticipantResponse(Member member, LocalDate participationDate) {
+    @Getter(AccessLevel.NONE)
+    private final SerializedString memberFragment;
+
+    public ParticipantResponse(Member member, LocalDate participationDate, SerializedString memberFragment) {
         this.memberId = member.getId();
         this.username = member.getUsername();
         this.imageUrl = member.getImageUrl();
         this.profileUrl = member.getProfileUrl();
         this.participationDate = participationDate;
+        this.memberFragment = memberFragment;
+    }
+
+    public ParticipantResponse(Member member, LocalDate participationDate) {
+        this(member, participationDate, null);
     }
 
     public ParticipantResponse(Member member) {
-        this.memberId = member.getId();
-        this.username = member.getUsername();
-        this.imageUrl = member.getImageUrl();
-        this.profileUrl = member.getProfileUrl();
-        this.participationDate = null;
+        this(member, null);
+    }
+
+    @Override
+    public SerializedString memberFragment() {
+        return memberFragment;
     }
 }
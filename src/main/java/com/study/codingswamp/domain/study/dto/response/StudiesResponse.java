@@ -1,5 +1,6 @@
 package com.study.codingswamp.domain.study.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 
 import java.util.List;
@@ -10,8 +11,16 @@ public class StudiesResponse {
     private final List<StudyResponse> studyResponses;
     private final Integer totalPage;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final FacetsResponse facets;
+
     public StudiesResponse(List<StudyResponse> studyResponses, Integer totalPage) {
+        this(studyResponses, totalPage, null);
+    }
+
+    public StudiesResponse(List<StudyResponse> studyResponses, Integer totalPage, FacetsResponse facets) {
         this.studyResponses = studyResponses;
         this.totalPage = totalPage;
+        this.facets = facets;
     }
 }
@@ -1,6 +1,10 @@
 package com.study.codingswamp.domain.study.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.study.codingswamp.domain.study.dto.request.FieldSelection;
 import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.StudyCard;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +13,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
+@JsonFilter(FieldSelection.FILTER_ID)
 public class StudyDetailResponse {
 
     private final Long studyId;
@@ -22,14 +27,21 @@ public class StudyDetailResponse {
     private final LocalDate startDate;
     private final LocalDate endDate;
     private final OwnerResponse owner;
+    private final Long participantCount;
+    private final Long applicantCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final List<ParticipantResponse> participants;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final List<ApplicantResponse> applicants;
     private final List<String> tags;
     private final LocalDateTime createdAt;
 
     @Builder
-    public StudyDetailResponse(Study study, OwnerResponse owner, List<ParticipantResponse> participants,
-                               List<ApplicantResponse> applicants, List<String> tags) {
+    public StudyDetailResponse(Study study, OwnerResponse owner, Long participantCount, Long applicantCount,
+                               List<ParticipantResponse> participants, List<ApplicantResponse> applicants,
+                               List<String> tags) {
         this.studyId = study.getId();
         this.title = study.getTitle();
         this.description = study.getDescription();
@@ -41,9 +53,38 @@ public class StudyDetailResponse {
         this.startDate = study.getStartDate();
         this.endDate = study.getEndDate();
         this.owner = owner;
+        this.participantCount = participantCount;
+        this.applicantCount = applicantCount;
         this.participants = participants;
         this.applicants = applicants;
         this.tags = tags;
         this.createdAt = study.getCreatedAt();
     }
+
+    /**
+     * 필드를 골라 요청한 경우 LOB 과 컬렉션을 읽지 않도록 study_card 행과 따로 조회한 값으로 만든다.
+     * 요청하지 않은 값은 null 이며 직렬화 단계에서 제외된다.
+     */
+    public StudyDetailResponse(StudyCard studyCard, String description, OwnerResponse owner,
+                               Long participantCount, Long applicantCount,
+                               List<ParticipantResponse> participants, List<ApplicantResponse> applicants,
+                               List<String> tags) {
+        this.studyId = studyCard.getId();
+        this.title = studyCard.getTitle();
+        this.description = description;
+        this.studyType = studyCard.getStudyType().name();
+        this.thumbnail = studyCard.getThumbnail();
+        this.studyStatus = studyCard.getStudyStatus().name();
+        this.currentMemberCount = studyCard.getCurrentMemberCount();
+        this.maxMemberCount = studyCard.getMaxMemberCount();
+        this.startDate = studyCard.getStartDate();
+        this.endDate = studyCard.getEndDate();
+        this.owner = owner;
+        this.participantCount = participantCount;
+        this.applicantCount = applicantCount;
+        this.participants = participants;
+        this.applicants = applicants;
+        this.tags = tags;
+        this.createdAt = studyCard.getCreatedAt();
+    }
 }
@@ -1,6 +1,9 @@
 package com.study.codingswamp.domain.study.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.study.codingswamp.domain.study.dto.request.FieldSelection;
 import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.StudyCard;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
+@JsonFilter(FieldSelection.FILTER_ID)
 public class StudyResponse {
 
     private final Long studyId;
@@ -37,4 +41,18 @@ public class StudyResponse {
         this.tags = tags;
         this.createdAt = study.getCreatedAt();
     }
+
+    public StudyResponse(StudyCard studyCard) {
+        this.studyId = studyCard.getId();
+        this.title = studyCard.getTitle();
+        this.studyType = studyCard.getStudyType().name();
+        this.thumbnail = studyCard.getThumbnail();
+        this.studyStatus = studyCard.getStudyStatus().name();
+        this.currentMemberCount = studyCard.getCurrentMemberCount();
+        this.maxMemberCount = studyCard.getMaxMemberCount();
+        this.startDate = studyCard.getStartDate();
+        this.endDate = studyCard.getEndDate();
+        this.tags = studyCard.getTagTexts();
+        this.createdAt = studyCard.getCreatedAt();
+    }
 }
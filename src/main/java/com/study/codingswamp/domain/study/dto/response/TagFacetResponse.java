@@ -0,0 +1,15 @@
+package com.study.codingswamp.domain.study.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TagFacetResponse {
+
+    private final String tagText;
+    private final Long count;
+
+    public TagFacetResponse(String tagText, Long count) {
+        this.tagText = tagText;
+        this.count = count;
+    }
+}
@@ -1,9 +1,11 @@
 package com.study.codingswamp.domain.study.entity;
 
+import com.study.codingswamp.domain.id.TsidGenerator;
 import com.study.codingswamp.domain.member.entity.Member;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -12,11 +14,16 @@ import static javax.persistence.FetchType.LAZY;
 
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_applicant_study_member",
+        columnNames = {"study_id", "member_id"}
+))
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 public class Applicant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TsidGenerator.NAME)
+    @GenericGenerator(name = TsidGenerator.NAME, strategy = TsidGenerator.STRATEGY)
     @Column(name = "applicant_id")
     private Long id;
 
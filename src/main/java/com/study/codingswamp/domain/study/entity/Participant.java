@@ -1,7 +1,9 @@
 package com.study.codingswamp.domain.study.entity;
 
+import com.study.codingswamp.domain.id.TsidGenerator;
 import com.study.codingswamp.domain.member.entity.Member;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -12,10 +14,15 @@ import static javax.persistence.FetchType.LAZY;
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 @EqualsAndHashCode
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_participant_study_member",
+        columnNames = {"study_id", "member_id"}
+))
 public class Participant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TsidGenerator.NAME)
+    @GenericGenerator(name = TsidGenerator.NAME, strategy = TsidGenerator.STRATEGY)
     @Column(name = "participant_id")
     private Long id;
 
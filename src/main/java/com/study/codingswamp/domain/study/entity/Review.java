@@ -16,6 +16,7 @@ import static javax.persistence.FetchType.LAZY;
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 public class Review {
 
+    // 리뷰는 작성 요청마다 한 건만 저장하므로 INSERT 를 묶을 일이 없어 IDENTITY 를 그대로 쓴다.
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "review_id")
@@ -1,14 +1,17 @@
 package com.study.codingswamp.domain.study.entity;
 
 import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.study.cache.StudyDetailCacheListener;
+import com.study.codingswamp.domain.study.card.StudyCardListener;
 import com.study.codingswamp.domain.study.dto.request.StudyRequest;
-import com.study.codingswamp.exception.ConflictException;
+import com.study.codingswamp.domain.study.search.StudySearchIndexListener;
 import com.study.codingswamp.exception.ForbiddenException;
-import com.study.codingswamp.exception.NotFoundException;
 import com.study.codingswamp.exception.UnauthorizedException;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 
 import javax.persistence.*;
@@ -21,9 +24,12 @@ import static lombok.AccessLevel.PUBLIC;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = PUBLIC)
+@EntityListeners({StudySearchIndexListener.class, StudyCardListener.class, StudyDetailCacheListener.class})
 public class Study {
 
+    // 스터디 생성 요청마다 한 건씩 INSERT 하므로 IDENTITY 를 그대로 쓴다. 한꺼번에 쌓이는 참가자, 신청자는 TSID 를 쓴다.
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "study_id")
@@ -56,10 +62,19 @@ public class Study {
     @JoinColumn(name = "owner_id")
     private Member owner;
 
+    /**
+     * 조건부 UPDATE 로 인원 수나 정원을 바꿔 스터디 행을 잠근 뒤 다시 읽은 값, 또는 행을 잠근 재계산 값으로만 바꾼다.
+     * 변경된 컬럼만 UPDATE 하므로 다른 필드를 고칠 때 읽어 둔 인원 수로 덮어쓰지 않는다.
+     */
     private int currentMemberCount;
 
     private int maxMemberCount;
 
+    /**
+     * 하위 행이 많아 백그라운드에서 나눠 지우는 중인 스터디. 조회와 변경 대상에서 제외한다.
+     */
+    private boolean deleting;
+
     @OneToMany(mappedBy = "study", fetch = LAZY)
     private Set<Participant> participants = new HashSet<>();
 
@@ -107,64 +122,106 @@ public class Study {
         currentMemberCount = participants.size();
     }
 
-    public LocalDate getOwnerParticipationDate() {
-        return participants.stream()
-                .filter(p -> p.getMember() == owner)
-                .findAny()
-                .orElseThrow(() -> new NotFoundException("participant", "owner에 해당되는 참가자가 없습니다."))
-                .getParticipationDate();
+    /**
+     * 참가자, 신청자 컬렉션을 이미 읽어 온 경우에만 메모리에서 확인한다.
+     * 읽지 않았다면 (study_id, member_id) 인덱스로 조회하도록 호출한 쪽에 맡긴다.
+     */
+    public boolean isParticipantsLoaded() {
+        return Hibernate.isInitialized(participants);
+    }
+
+    public boolean isApplicantsLoaded() {
+        return Hibernate.isInitialized(applicants);
     }
 
     public void addApplicant(Applicant applicant) {
-        this.applicants.add(applicant);
+        if (isApplicantsLoaded()) {
+            this.applicants.add(applicant);
+        }
     }
 
-    public Applicant addParticipant(Participant participant) {
-        this.participants.add(participant);
-        this.currentMemberCount = participants.size();
-        return removeApplicant(participant.getMember());
+    /**
+     * 조건부 UPDATE 로 자리를 확보한 뒤 호출한다. 인원 수는 메모리의 참가자 수가 아니라 DB 에서 증가시킨 값을 반영한다.
+     */
+    public void admitParticipant(Participant participant, Applicant applicant, int currentMemberCount) {
+        if (isParticipantsLoaded()) {
+            this.participants.add(participant);
+        }
+        removeApplicant(applicant);
+        this.currentMemberCount = currentMemberCount;
+    }
+
+    /**
+     * 여러 신청자를 한 번에 승인한 뒤 호출한다. 읽어 둔 참가자 컬렉션이 있으면 함께 반영하고 인원 수는 DB 값으로 맞춘다.
+     */
+    public void admitParticipants(List<Participant> participants, int currentMemberCount) {
+        if (isParticipantsLoaded()) {
+            this.participants.addAll(participants);
+        }
+        this.currentMemberCount = currentMemberCount;
+    }
+
+    /**
+     * 참가자가 빠진 뒤 호출한다. 인원 수는 DB 에서 줄인 값을 반영한다.
+     */
+    public void leaveParticipant(Participant participant, int currentMemberCount) {
+        removeParticipant(participant);
+        this.currentMemberCount = currentMemberCount;
+    }
+
+    /**
+     * 인원 수 재계산 작업이 실제 참가자 수로 바로잡을 때 호출한다.
+     */
+    public void reconcileCurrentMemberCount(int participantCount) {
+        this.currentMemberCount = participantCount;
+    }
+
+    public void changeOwner(Member owner) {
+        this.owner = owner;
     }
 
     public void validateOwner(Member member) {
-        if (this.owner != member) {
+        if (!isOwner(member)) {
             throw new ForbiddenException("owner", "스터디 장이 아닙니다.");
         }
     }
 
-    public void validateStudyMaxMember() {
-        if (this.currentMemberCount == maxMemberCount) {
-            throw new ConflictException("study", "최대 정원인 스터디입니다.");
-        }
+    public boolean isFull() {
+        return this.currentMemberCount >= maxMemberCount;
     }
 
-    public void checkApplicant(Member member) {
-        Optional<Applicant> findApplicant = applicants.stream()
-                .filter(applicant -> applicant.getMember().getId().equals(member.getId()))
-                .findAny();
-        if (findApplicant.isPresent()) {
-            throw new ConflictException("applicant", "이미 신청한 사용자입니다.");
+    public void validateWithdrawal(Member member) {
+        if (isOwner(member)) {
+            throw new UnauthorizedException("owner", "스터디장은 탈퇴할 수 없습니다.");
         }
     }
 
-    public void checkParticipant(Member member) {
-        Optional<Participant> findParticipant = participants.stream()
-                .filter(participant -> participant.getMember() == member)
-                .findAny();
-        if (findParticipant.isPresent()) {
-            throw new ConflictException("participant", "이미 참가한 인원입니다.");
+    public boolean hasApplicant(Member member) {
+        return applicants.stream()
+                .anyMatch(applicant -> isSameMember(applicant.getMember(), member));
+    }
+
+    public boolean hasParticipant(Member member) {
+        return participants.stream()
+                .anyMatch(participant -> isSameMember(participant.getMember(), member));
+    }
+
+    public void removeParticipant(Participant participant) {
+        if (isParticipantsLoaded()) {
+            this.participants.remove(participant);
         }
     }
 
-    public Participant withDrawParticipant(Member member) {
-        if (member == owner) {
-            throw new UnauthorizedException("owner", "스터디장은 탈퇴할 수 없습니다.");
+    public void removeApplicant(Applicant applicant) {
+        if (isApplicantsLoaded()) {
+            this.applicants.remove(applicant);
         }
-        Participant removeParticipant = findParticipant(member);
-        this.participants.remove(removeParticipant);
-        return removeParticipant;
     }
 
-    public void update(StudyRequest request) {
+    /**
+     * 정원은 조건부 UPDATE 로 먼저 바꾼 뒤 호출한다. 인원 수는 그때 DB 에서 읽은 값을 반영한다.
+     */
+    public void update(StudyRequest request, int currentMemberCount) {
         this.title = request.getTitle();
         this.description = request.getDescription();
         this.studyType = request.mapToStudyType();
@@ -172,17 +229,11 @@ public class Study {
         this.startDate = request.getStartDate();
         this.endDate = request.getEndDate();
         this.studyStatus = request.checkStudyStatus();
-        validateMaxMemberCount(request);
         this.maxMemberCount = request.getMaxMemberCount();
+        this.currentMemberCount = currentMemberCount;
         this.tags = request.mapToTag();
     }
 
-    private void validateMaxMemberCount(StudyRequest request) {
-        if (currentMemberCount > request.getMaxMemberCount()) {
-            throw new ConflictException("maxMemberCount", "현재 인원이 정원보다 많습니다.");
-        }
-    }
-
     public void updateStudyStatus(LocalDate now) {
         if (endDate != null && endDate.isBefore(now)) {
             this.studyStatus = StudyStatus.COMPLETION;
@@ -193,36 +244,26 @@ public class Study {
         }
     }
 
-    public Participant kickParticipant(Member participantMember) {
-        Participant removeParticipant = findParticipant(participantMember);
-        this.participants.remove(removeParticipant);
-        return removeParticipant;
-    }
-
-    public Applicant removeApplicant(Member member) {
-        Applicant removeApplicant = findApplicant(member);
-        this.applicants.remove(removeApplicant);
-        return removeApplicant;
-    }
-
-    private Applicant findApplicant(Member member) {
+    public Optional<Applicant> findApplicant(Member member) {
         return applicants.stream()
-                .filter(applicant -> member == applicant.getMember())
-                .findAny()
-                .orElseThrow(() -> new NotFoundException("member", "신청자에 없습니다."));
+                .filter(applicant -> isSameMember(applicant.getMember(), member))
+                .findAny();
     }
 
-    public Participant findParticipant(Member member) {
+    public Optional<Participant> findParticipant(Member member) {
         return participants.stream()
-                .filter(participant -> participant.getMember() == member)
-                .findAny()
-                .orElseThrow(() -> new NotFoundException("participant", "참가자가 아닙니다."));
+                .filter(participant -> isSameMember(participant.getMember(), member))
+                .findAny();
+    }
+
+    private boolean isOwner(Member member) {
+        return isSameMember(owner, member);
     }
 
-    public void isParticipant(Member member) {
-        participants.stream()
-                .filter(participant -> participant.getMember() == member)
-                .findAny()
-                .orElseThrow(() -> new NotFoundException("participant", "참가자가 아닙니다."));
+    /**
+     * 지연 로딩 프록시와 실제 엔티티가 섞여 있어도 초기화 없이 비교할 수 있도록 식별자로 비교한다.
+     */
+    private boolean isSameMember(Member left, Member right) {
+        return left.getId() != null && left.getId().equals(right.getId());
     }
 }
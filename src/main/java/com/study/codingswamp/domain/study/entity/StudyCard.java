@@ -0,0 +1,63 @@
+package com.study.codingswamp.domain.study.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 목록 화면용 스터디 읽기 모델. 태그를 {@link StudyCardTags} 로 인코딩해 한 행에 담으므로 조인과 LOB 조회 없이 카드를 만든다.
+ * Study 가 저장, 수정, 삭제될 때 {@link com.study.codingswamp.domain.study.repository.StudyCardJdbcRepository} 가 같은 트랜잭션에서 갱신한다.
+ */
+@Entity
+@Getter
+@Immutable
+@Synchronize({"study", "study_tag"})
+@NoArgsConstructor(access = PROTECTED)
+public class StudyCard {
+
+    @Id
+    @Column(name = "study_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StudyType studyType;
+
+    @Column(nullable = false)
+    private String thumbnail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StudyStatus studyStatus;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private int currentMemberCount;
+
+    private int maxMemberCount;
+
+    @Column(length = StudyCardTags.MAX_LENGTH)
+    private String tags;
+
+    private boolean tagsTruncated;
+
+    private LocalDateTime createdAt;
+
+    public List<String> getTagTexts() {
+        return StudyCardTags.decode(tags);
+    }
+}
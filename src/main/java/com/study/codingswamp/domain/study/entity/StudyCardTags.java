@@ -0,0 +1,80 @@
+package com.study.codingswamp.domain.study.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * study_card.tags 컬럼에 담는 태그 목록. JSON 배열로 인코딩하므로 콤마나 따옴표가 든 태그도 그대로 되돌릴 수 있다.
+ * 컬럼 길이를 넘는 목록은 앞에서부터 통째로 들어가는 태그까지만 담고 잘렸다고 표시한다. 전체 태그는 study_tag 에 있다.
+ * JSON 배열이 아닌 값은 예전에 콤마로 이어 붙여 저장한 행이므로 콤마로 나눠 읽고,
+ * 시작할 때 {@link com.study.codingswamp.domain.study.card.StudyCardInitializer} 가 study_tag 로 다시 쓴다.
+ */
+@Getter
+public class StudyCardTags {
+
+    public static final int MAX_LENGTH = 4000;
+
+    private static final String LEGACY_DELIMITER = ",";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> TAG_LIST = new TypeReference<>() {
+    };
+
+    private final String value;
+    private final boolean truncated;
+
+    private StudyCardTags(String value, boolean truncated) {
+        this.value = value;
+        this.truncated = truncated;
+    }
+
+    public static StudyCardTags encode(List<String> tagTexts) {
+        StringBuilder value = new StringBuilder("[");
+        for (String tagText : tagTexts) {
+            String element = writeString(tagText);
+            int separatorLength = value.length() > 1 ? 1 : 0;
+            if (value.length() + separatorLength + element.length() + 1 > MAX_LENGTH) {
+                return new StudyCardTags(value.append(']').toString(), true);
+            }
+            if (separatorLength > 0) {
+                value.append(',');
+            }
+            value.append(element);
+        }
+        return new StudyCardTags(value.append(']').toString(), false);
+    }
+
+    public static List<String> decode(String value) {
+        if (!StringUtils.hasText(value)) {
+            return new ArrayList<>();
+        }
+        if (isLegacy(value)) {
+            return Arrays.stream(value.split(LEGACY_DELIMITER))
+                    .collect(Collectors.toList());
+        }
+        try {
+            return OBJECT_MAPPER.readValue(value, TAG_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("study_card 태그를 읽을 수 없습니다: " + value, e);
+        }
+    }
+
+    public static boolean isLegacy(String value) {
+        return StringUtils.hasText(value) && !value.startsWith("[");
+    }
+
+    private static String writeString(String tagText) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(tagText);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.codingswamp.domain.study.entity;
+
+import com.study.codingswamp.domain.id.TsidGenerator;
+import com.study.codingswamp.domain.member.entity.Member;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+import static javax.persistence.FetchType.LAZY;
+
+/**
+ * 정원이 찬 스터디에 신청한 대기자. id 가 시간순이므로 (study_id, waiting_applicant_id) 인덱스 순서가 곧 대기 순서다.
+ */
+@Getter
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_waiting_applicant_study_member",
+                columnNames = {"study_id", "member_id"}
+        ),
+        indexes = @Index(name = "idx_waiting_applicant_study", columnList = "study_id, waiting_applicant_id")
+)
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+public class WaitingApplicant {
+
+    @Id
+    @GeneratedValue(generator = TsidGenerator.NAME)
+    @GenericGenerator(name = TsidGenerator.NAME, strategy = TsidGenerator.STRATEGY)
+    @Column(name = "waiting_applicant_id")
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "study_id")
+    private Study study;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @Lob
+    @Column(updatable = false, nullable = false)
+    private String reasonForApplication;
+
+    @Column(updatable = false, nullable = false)
+    private LocalDate waitingDate;
+
+    public WaitingApplicant(Study study, Member member, String reasonForApplication, LocalDate waitingDate) {
+        this.study = study;
+        this.member = member;
+        this.reasonForApplication = reasonForApplication;
+        this.waitingDate = waitingDate;
+    }
+}
@@ -3,5 +3,17 @@ package com.study.codingswamp.domain.study.repository;
 import com.study.codingswamp.domain.study.entity.Applicant;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ApplicantRepository extends JpaRepository<Applicant, Long>{
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ApplicantRepository extends JpaRepository<Applicant, Long>, ApplicantRepositoryCustom {
+
+    long countByStudyId(Long studyId);
+
+    boolean existsByStudyIdAndMemberId(Long studyId, Long memberId);
+
+    Optional<Applicant> findByStudyIdAndMemberId(Long studyId, Long memberId);
+
+    List<Applicant> findByStudyIdAndMemberIdIn(Long studyId, Collection<Long> memberIds);
 }
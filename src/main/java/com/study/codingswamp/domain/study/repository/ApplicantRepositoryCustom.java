@@ -0,0 +1,18 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.entity.Applicant;
+
+import java.util.List;
+
+public interface ApplicantRepositoryCustom {
+
+    List<Applicant> findApplicants(Long studyId, CursorRequest request);
+
+    List<Applicant> findApplicants(Long studyId);
+    void deleteByStudyId(Long studyId);
+
+    List<Long> findIdsByStudyId(Long studyId, int limit);
+
+    List<Long> findIdsByMemberId(Long memberId, int limit);
+}
@@ -0,0 +1,71 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.entity.Applicant;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.study.codingswamp.domain.study.entity.QApplicant.applicant;
+
+@RequiredArgsConstructor
+public class ApplicantRepositoryImpl implements ApplicantRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Applicant> findApplicants(Long studyId, CursorRequest request) {
+        return jpaQueryFactory.selectFrom(applicant)
+                .join(applicant.member).fetchJoin()
+                .where(
+                        applicant.study.id.eq(studyId),
+                        lessThanApplicantId(request)
+                )
+                .orderBy(applicant.id.desc())
+                .limit(request.getSize())
+                .fetch();
+    }
+
+    @Override
+    public List<Applicant> findApplicants(Long studyId) {
+        return jpaQueryFactory.selectFrom(applicant)
+                .join(applicant.member).fetchJoin()
+                .where(applicant.study.id.eq(studyId))
+                .orderBy(applicant.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public void deleteByStudyId(Long studyId) {
+        jpaQueryFactory.delete(applicant)
+                .where(applicant.study.id.eq(studyId))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findIdsByStudyId(Long studyId, int limit) {
+        return jpaQueryFactory.select(applicant.id)
+                .from(applicant)
+                .where(applicant.study.id.eq(studyId))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findIdsByMemberId(Long memberId, int limit) {
+        return jpaQueryFactory.select(applicant.id)
+                .from(applicant)
+                .where(applicant.member.id.eq(memberId))
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression lessThanApplicantId(CursorRequest request) {
+        if (request.hasKey()) {
+            return applicant.id.lt(request.getKey());
+        }
+        return null;
+    }
+}
@@ -3,5 +3,16 @@ package com.study.codingswamp.domain.study.repository;
 import com.study.codingswamp.domain.study.entity.Participant;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ParticipantRepository extends JpaRepository<Participant, Long> {
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ParticipantRepository extends JpaRepository<Participant, Long>, ParticipantRepositoryCustom {
+
+    long countByStudyId(Long studyId);
+
+    boolean existsByStudyIdAndMemberId(Long studyId, Long memberId);
+
+    boolean existsByStudyIdAndMemberIdIn(Long studyId, Collection<Long> memberIds);
+
+    Optional<Participant> findByStudyIdAndMemberId(Long studyId, Long memberId);
 }
@@ -0,0 +1,26 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.entity.Participant;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ParticipantRepositoryCustom {
+
+    List<Participant> findParticipants(Long studyId, CursorRequest request);
+
+    List<Participant> findParticipants(Long studyId);
+
+    Optional<Participant> findOwnerParticipant(Long studyId);
+
+    Optional<Participant> findSuccessor(Long studyId, Long ownerId);
+
+    List<Participant> findParticipations(Long memberId, int limit);
+
+    Map<Long, Long> countByStudyIds(List<Long> studyIds);
+    void deleteByStudyId(Long studyId);
+
+    List<Long> findIdsByStudyId(Long studyId, int limit);
+}
@@ -0,0 +1,121 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.entity.Participant;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.study.codingswamp.domain.study.entity.QParticipant.participant;
+import static com.study.codingswamp.domain.study.entity.QStudy.study;
+
+@RequiredArgsConstructor
+public class ParticipantRepositoryImpl implements ParticipantRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Participant> findParticipants(Long studyId, CursorRequest request) {
+        return jpaQueryFactory.selectFrom(participant)
+                .join(participant.member).fetchJoin()
+                .where(
+                        participant.study.id.eq(studyId),
+                        lessThanParticipantId(request)
+                )
+                .orderBy(participant.id.desc())
+                .limit(request.getSize())
+                .fetch();
+    }
+
+    @Override
+    public List<Participant> findParticipants(Long studyId) {
+        return jpaQueryFactory.selectFrom(participant)
+                .join(participant.member).fetchJoin()
+                .where(participant.study.id.eq(studyId))
+                .orderBy(participant.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public Optional<Participant> findOwnerParticipant(Long studyId) {
+        Participant owner = jpaQueryFactory.selectFrom(participant)
+                .join(participant.member).fetchJoin()
+                .join(participant.study, study)
+                .where(
+                        study.id.eq(studyId),
+                        participant.member.eq(study.owner)
+                )
+                .fetchOne();
+        return Optional.ofNullable(owner);
+    }
+
+    /**
+     * 스터디장을 제외하고 가장 먼저 참가한, 탈퇴하지 않은 참가자.
+     */
+    @Override
+    public Optional<Participant> findSuccessor(Long studyId, Long ownerId) {
+        Participant successor = jpaQueryFactory.selectFrom(participant)
+                .join(participant.member).fetchJoin()
+                .where(
+                        participant.study.id.eq(studyId),
+                        participant.member.id.ne(ownerId),
+                        participant.member.deleted.isFalse()
+                )
+                .orderBy(participant.participationDate.asc(), participant.id.asc())
+                .limit(1)
+                .fetchOne();
+        return Optional.ofNullable(successor);
+    }
+
+    @Override
+    public List<Participant> findParticipations(Long memberId, int limit) {
+        return jpaQueryFactory.selectFrom(participant)
+                .join(participant.study, study).fetchJoin()
+                .where(participant.member.id.eq(memberId))
+                .orderBy(participant.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Long> countByStudyIds(List<Long> studyIds) {
+        return jpaQueryFactory.select(participant.study.id, participant.count())
+                .from(participant)
+                .where(participant.study.id.in(studyIds))
+                .groupBy(participant.study.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(participant.study.id),
+                        tuple -> tuple.get(participant.count())
+                ));
+    }
+
+    @Override
+    public void deleteByStudyId(Long studyId) {
+        jpaQueryFactory.delete(participant)
+                .where(participant.study.id.eq(studyId))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findIdsByStudyId(Long studyId, int limit) {
+        return jpaQueryFactory.select(participant.id)
+                .from(participant)
+                .where(participant.study.id.eq(studyId))
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression lessThanParticipantId(CursorRequest request) {
+        if (request.hasKey()) {
+            return participant.id.lt(request.getKey());
+        }
+        return null;
+    }
+}
@@ -4,4 +4,6 @@ import com.study.codingswamp.domain.study.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
+
+    long countByStudyId(Long studyId);
 }
@@ -9,4 +9,5 @@ public interface ReviewRepositoryCustom {
 
     List<Review> findAllByLessThanIdAndStudyId(CursorRequest cursorRequest, Long studyId);
     void deleteByStudyId(Long studyId);
+    List<Long> findIdsByStudyId(Long studyId, int limit);
 }
@@ -34,6 +34,15 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .execute();
     }
 
+    @Override
+    public List<Long> findIdsByStudyId(Long studyId, int limit) {
+        return jpaQueryFactory.select(review.id)
+                .from(review)
+                .where(review.study.id.eq(studyId))
+                .limit(limit)
+                .fetch();
+    }
+
     private BooleanExpression lessThanReviewId(CursorRequest cursorRequest) {
         if (cursorRequest.hasKey()) {
             return review.id.lt(cursorRequest.getKey());
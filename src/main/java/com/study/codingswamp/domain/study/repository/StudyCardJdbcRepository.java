@@ -0,0 +1,81 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.StudyCardTags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * study_card 읽기 모델을 JDBC 로 갱신한다.
+ * flush 도중 엔티티 리스너에서 호출되므로 영속성 컨텍스트를 건드리지 않고 현재 트랜잭션의 커넥션으로 바로 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyCardJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(Study study, List<String> tagTexts) {
+        StudyCardTags tags = StudyCardTags.encode(tagTexts);
+        jdbcTemplate.update("insert into study_card (study_id, title, study_type, thumbnail, study_status, " +
+                        "start_date, end_date, current_member_count, max_member_count, tags, tags_truncated, created_at) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                study.getId(), study.getTitle(), study.getStudyType().name(), study.getThumbnail(),
+                study.getStudyStatus().name(), study.getStartDate(), study.getEndDate(),
+                study.getCurrentMemberCount(), study.getMaxMemberCount(), tags.getValue(), tags.isTruncated(),
+                study.getCreatedAt());
+    }
+
+    /**
+     * tagTexts 가 null 이면 태그는 그대로 두고 나머지 컬럼만 갱신한다.
+     * 인원 수는 엔티티가 읽어 둔 값이 오래되었을 수 있으므로 쓰지 않고 {@link #updateCurrentMemberCount} 로만 바꾼다.
+     */
+    public int update(Study study, List<String> tagTexts) {
+        if (tagTexts == null) {
+            return jdbcTemplate.update("update study_card set title = ?, study_type = ?, thumbnail = ?, " +
+                            "study_status = ?, start_date = ?, end_date = ?, " +
+                            "max_member_count = ? where study_id = ?",
+                    study.getTitle(), study.getStudyType().name(), study.getThumbnail(),
+                    study.getStudyStatus().name(), study.getStartDate(), study.getEndDate(),
+                    study.getMaxMemberCount(), study.getId());
+        }
+        StudyCardTags tags = StudyCardTags.encode(tagTexts);
+        return jdbcTemplate.update("update study_card set title = ?, study_type = ?, thumbnail = ?, " +
+                        "study_status = ?, start_date = ?, end_date = ?, " +
+                        "max_member_count = ?, tags = ?, tags_truncated = ? where study_id = ?",
+                study.getTitle(), study.getStudyType().name(), study.getThumbnail(),
+                study.getStudyStatus().name(), study.getStartDate(), study.getEndDate(),
+                study.getMaxMemberCount(), tags.getValue(), tags.isTruncated(), study.getId());
+    }
+
+    public int updateTags(Long studyId, List<String> tagTexts) {
+        StudyCardTags tags = StudyCardTags.encode(tagTexts);
+        return jdbcTemplate.update("update study_card set tags = ?, tags_truncated = ? where study_id = ?",
+                tags.getValue(), tags.isTruncated(), studyId);
+    }
+
+    /**
+     * id 가 afterStudyId 보다 큰 카드 중 태그가 예전 콤마 형식으로 남은 카드의 id 를 limit 개까지 가져온다.
+     */
+    public List<Long> findLegacyTagStudyIds(Long afterStudyId, int limit) {
+        return jdbcTemplate.queryForList("select study_id from study_card " +
+                        "where study_id > ? and tags is not null and tags <> '' and tags not like '[%' " +
+                        "order by study_id limit ?",
+                Long.class, afterStudyId, limit);
+    }
+
+    /**
+     * 인원 수를 조건부 UPDATE 로 바꾸고 스터디 행을 잠근 채 읽은 값을 쓴다.
+     */
+    public int updateCurrentMemberCount(Long studyId, int currentMemberCount) {
+        return jdbcTemplate.update("update study_card set current_member_count = ? where study_id = ?",
+                currentMemberCount, studyId);
+    }
+
+    public void deleteById(Long studyId) {
+        jdbcTemplate.update("delete from study_card where study_id = ?", studyId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.study.codingswamp.domain.study.entity.StudyCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StudyCardRepository extends JpaRepository<StudyCard, Long>, StudyCardRepositoryCustom {
+}
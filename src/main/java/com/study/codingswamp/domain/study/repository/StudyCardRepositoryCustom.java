@@ -0,0 +1,17 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.dto.request.StudiesPageableRequest;
+import com.study.codingswamp.domain.study.entity.StudyCard;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StudyCardRepositoryCustom {
+
+    List<StudyCard> getStudyCards(StudiesPageableRequest request);
+
+    List<StudyCard> getStudyCards(CursorRequest request);
+
+    Map<Long, Integer> findCurrentMemberCounts(List<Long> studyIds);
+}
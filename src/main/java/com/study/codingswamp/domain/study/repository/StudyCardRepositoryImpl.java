@@ -0,0 +1,58 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.dto.request.StudiesPageableRequest;
+import com.study.codingswamp.domain.study.entity.StudyCard;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.study.codingswamp.domain.study.entity.QStudyCard.studyCard;
+
+@RequiredArgsConstructor
+public class StudyCardRepositoryImpl implements StudyCardRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<StudyCard> getStudyCards(StudiesPageableRequest request) {
+        return jpaQueryFactory.selectFrom(studyCard)
+                .limit(request.getSize())
+                .offset(request.getOffset())
+                .orderBy(studyCard.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<StudyCard> getStudyCards(CursorRequest request) {
+        return jpaQueryFactory.selectFrom(studyCard)
+                .where(lessThanStudyId(request))
+                .orderBy(studyCard.id.desc())
+                .limit(request.getSize())
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Integer> findCurrentMemberCounts(List<Long> studyIds) {
+        return jpaQueryFactory.select(studyCard.id, studyCard.currentMemberCount)
+                .from(studyCard)
+                .where(studyCard.id.in(studyIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(studyCard.id),
+                        tuple -> tuple.get(studyCard.currentMemberCount)
+                ));
+    }
+
+    private BooleanExpression lessThanStudyId(CursorRequest request) {
+        if (request.hasKey()) {
+            return studyCard.id.lt(request.getKey());
+        }
+        return null;
+    }
+}
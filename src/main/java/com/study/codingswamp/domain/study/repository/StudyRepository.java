@@ -2,6 +2,15 @@ package com.study.codingswamp.domain.study.repository;
 
 import com.study.codingswamp.domain.study.entity.Study;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
 
 public interface StudyRepository extends JpaRepository<Study, Long>, StudyRepositoryCustom {
+
+    boolean existsByIdAndDeletingFalse(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Study> findWithLockById(Long id);
 }
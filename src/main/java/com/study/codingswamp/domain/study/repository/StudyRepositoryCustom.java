@@ -1,25 +1,56 @@
 package com.study.codingswamp.domain.study.repository;
 
 import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
 import com.study.codingswamp.domain.study.dto.request.SearchCondition;
 import com.study.codingswamp.domain.study.entity.Study;
 import com.study.codingswamp.domain.study.dto.request.StudiesPageableRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface StudyRepositoryCustom {
 
     List<Study> getStudies(StudiesPageableRequest request);
 
+    List<Study> getStudies(CursorRequest request);
+
     List<Study> getSearchStudies(SearchCondition condition);
 
+    Optional<Study> findStudySummary(Long studyId);
+
+    Optional<Study> findStudyDetail(Long studyId);
+
+    String findDescription(Long studyId);
+
+    long increaseCurrentMemberCount(Long studyId, int count);
+
+    Integer findCurrentMemberCount(Long studyId);
+
+    Map<Long, Integer> findCurrentMemberCounts(Long afterStudyId, int limit);
+
+    long decreaseCurrentMemberCount(Long studyId);
+
+    long updateMaxMemberCount(Long studyId, int maxMemberCount);
+
+    long markDeleting(Long studyId);
+
+    List<Long> findOwnedStudyIds(Long ownerId, int limit);
+
+    List<Long> findDeletingStudyIds();
+
     Long getCount();
 
     Long getCount(SearchCondition condition);
 
     List<Study> findMyApplies(Member member);
 
+    List<Study> findMyWaitings(Member member);
+
     List<Study> findMyParticipates(Member member);
 
     List<Study> findStudyStatusIsNotCompleted();
+
+    Map<Long, List<String>> findTagTextsByStudyIds(List<Long> studyIds);
 }
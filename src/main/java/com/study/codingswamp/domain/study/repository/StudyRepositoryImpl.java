@@ -3,6 +3,7 @@ package com.study.codingswamp.domain.study.repository;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
 import com.study.codingswamp.domain.study.dto.request.SearchCondition;
 import com.study.codingswamp.domain.study.dto.request.StudiesPageableRequest;
 import com.study.codingswamp.domain.study.entity.Study;
@@ -11,11 +12,17 @@ import com.study.codingswamp.domain.study.entity.StudyType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.util.StringUtils;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.study.codingswamp.domain.study.entity.QApplicant.applicant;
 import static com.study.codingswamp.domain.study.entity.QParticipant.participant;
 import static com.study.codingswamp.domain.study.entity.QStudy.study;
+import static com.study.codingswamp.domain.study.entity.QTag.tag;
+import static com.study.codingswamp.domain.study.entity.QWaitingApplicant.waitingApplicant;
 
 
 @RequiredArgsConstructor
@@ -26,30 +33,197 @@ public class StudyRepositoryImpl implements StudyRepositoryCustom {
     @Override
     public List<Study> getStudies(StudiesPageableRequest request) {
         return jpaQueryFactory.selectFrom(study)
+                .where(study.deleting.isFalse())
                 .limit(request.getSize())
                 .offset(request.getOffset())
                 .orderBy(study.id.desc())
                 .fetch();
     }
 
+    @Override
+    public List<Study> getStudies(CursorRequest request) {
+        return jpaQueryFactory.selectFrom(study)
+                .where(
+                        lessThanStudyId(request),
+                        study.deleting.isFalse()
+                )
+                .orderBy(study.id.desc())
+                .limit(request.getSize())
+                .fetch();
+    }
+
     @Override
     public List<Study> getSearchStudies(SearchCondition condition) {
         return jpaQueryFactory.selectFrom(study)
                 .where(
                         likeTitle(condition.getTitle()),
                         eqStudyType(condition.mapToStudyType()),
-                        likeTag(condition.getTag())
+                        likeTags(condition),
+                        study.deleting.isFalse()
                 )
-                .limit(condition.getSize())
+                .limit(condition.getValidatedSize())
                 .offset(condition.getOffset())
                 .orderBy(study.id.desc())
                 .fetch();
     }
 
+    @Override
+    public Optional<Study> findStudySummary(Long studyId) {
+        Study findStudy = jpaQueryFactory.selectFrom(study)
+                .distinct()
+                .leftJoin(study.owner).fetchJoin()
+                .leftJoin(study.tags, tag).fetchJoin()
+                .where(
+                        study.id.eq(studyId),
+                        study.deleting.isFalse()
+                )
+                .fetchOne();
+        return Optional.ofNullable(findStudy);
+    }
+
+    /**
+     * 스터디 상세 화면에 필요한 연관 엔티티를 참가자, 신청자 수와 관계없이 세 번의 쿼리로 가져온다.
+     * 컬렉션을 한 쿼리에서 함께 fetch join 하면 곱집합이 되므로 같은 스터디를 컬렉션별로 다시 조회하여 초기화한다.
+     */
+    @Override
+    public Optional<Study> findStudyDetail(Long studyId) {
+        Optional<Study> findStudy = findStudySummary(studyId);
+        if (findStudy.isEmpty()) {
+            return Optional.empty();
+        }
+
+        jpaQueryFactory.selectFrom(study)
+                .distinct()
+                .leftJoin(study.participants, participant).fetchJoin()
+                .leftJoin(participant.member).fetchJoin()
+                .where(study.id.eq(studyId))
+                .fetch();
+        jpaQueryFactory.selectFrom(study)
+                .distinct()
+                .leftJoin(study.applicants, applicant).fetchJoin()
+                .leftJoin(applicant.member).fetchJoin()
+                .where(study.id.eq(studyId))
+                .fetch();
+        return findStudy;
+    }
+
+    @Override
+    public String findDescription(Long studyId) {
+        return jpaQueryFactory.select(study.description)
+                .from(study)
+                .where(study.id.eq(studyId))
+                .fetchOne();
+    }
+
+    /**
+     * 정원이 count 만큼 남아 있을 때만 인원 수를 올린다. 조건 검사와 증가가 한 문장이므로 동시에 승인해도 정원을 넘지 않는다.
+     * 벌크 연산이라 엔티티 리스너를 거치지 않으므로 호출한 쪽에서 엔티티에 결과를 반영해야 한다.
+     */
+    @Override
+    public long increaseCurrentMemberCount(Long studyId, int count) {
+        return jpaQueryFactory.update(study)
+                .set(study.currentMemberCount, study.currentMemberCount.add(count))
+                .where(
+                        study.id.eq(studyId),
+                        study.currentMemberCount.add(count).loe(study.maxMemberCount)
+                )
+                .execute();
+    }
+
+    @Override
+    public Integer findCurrentMemberCount(Long studyId) {
+        return jpaQueryFactory.select(study.currentMemberCount)
+                .from(study)
+                .where(study.id.eq(studyId))
+                .fetchOne();
+    }
+
+    @Override
+    public Map<Long, Integer> findCurrentMemberCounts(Long afterStudyId, int limit) {
+        return jpaQueryFactory.select(study.id, study.currentMemberCount)
+                .from(study)
+                .where(
+                        study.id.gt(afterStudyId),
+                        study.deleting.isFalse()
+                )
+                .orderBy(study.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(study.id),
+                        tuple -> tuple.get(study.currentMemberCount),
+                        (left, right) -> left,
+                        LinkedHashMap::new
+                ));
+    }
+
+    /**
+     * 참가자가 빠질 때 인원 수를 DB 에서 직접 줄인다. 승인과 동시에 일어나도 증가분을 덮어쓰지 않는다.
+     */
+    @Override
+    public long decreaseCurrentMemberCount(Long studyId) {
+        return jpaQueryFactory.update(study)
+                .set(study.currentMemberCount, study.currentMemberCount.subtract(1))
+                .where(
+                        study.id.eq(studyId),
+                        study.currentMemberCount.gt(0)
+                )
+                .execute();
+    }
+
+    /**
+     * 현재 인원 수가 새 정원 이하일 때만 정원을 바꾼다. 엔티티가 읽어 둔 인원 수가 아니라 DB 값과 비교하므로
+     * 동시에 커밋된 승인이 있어도 인원 수가 정원을 넘지 않는다.
+     */
+    @Override
+    public long updateMaxMemberCount(Long studyId, int maxMemberCount) {
+        return jpaQueryFactory.update(study)
+                .set(study.maxMemberCount, maxMemberCount)
+                .where(
+                        study.id.eq(studyId),
+                        study.currentMemberCount.loe(maxMemberCount)
+                )
+                .execute();
+    }
+
+    /**
+     * 스터디를 삭제 대기 상태로 바꾼다. 엔티티 리스너를 거치지 않으므로 카드, 검색 인덱스, 캐시는 호출한 쪽에서 정리한다.
+     */
+    @Override
+    public long markDeleting(Long studyId) {
+        return jpaQueryFactory.update(study)
+                .set(study.deleting, true)
+                .where(study.id.eq(studyId))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findOwnedStudyIds(Long ownerId, int limit) {
+        return jpaQueryFactory.select(study.id)
+                .from(study)
+                .where(
+                        study.owner.id.eq(ownerId),
+                        study.deleting.isFalse()
+                )
+                .orderBy(study.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findDeletingStudyIds() {
+        return jpaQueryFactory.select(study.id)
+                .from(study)
+                .where(study.deleting.isTrue())
+                .fetch();
+    }
+
     @Override
     public Long getCount() {
         return jpaQueryFactory.select(study.count())
                 .from(study)
+                .where(study.deleting.isFalse())
                 .fetchOne();
     }
 
@@ -60,7 +234,8 @@ public class StudyRepositoryImpl implements StudyRepositoryCustom {
                 .where(
                         likeTitle(condition.getTitle()),
                         eqStudyType(condition.mapToStudyType()),
-                        likeTag(condition.getTag())
+                        likeTags(condition),
+                        study.deleting.isFalse()
                 )
                 .fetchOne();
     }
@@ -70,17 +245,39 @@ public class StudyRepositoryImpl implements StudyRepositoryCustom {
         return jpaQueryFactory.selectFrom(study)
                 .leftJoin(applicant)
                 .on(study.id.eq(applicant.study.id))
-                .where(applicant.member.id.eq(member.getId()))
+                .where(
+                        applicant.member.id.eq(member.getId()),
+                        study.deleting.isFalse()
+                )
                 .orderBy(applicant.applicantDate.desc())
                 .fetchJoin().fetch();
     }
 
+    /**
+     * 회원이 대기 중인 스터디를 먼저 대기한 순서로 가져온다.
+     */
+    @Override
+    public List<Study> findMyWaitings(Member member) {
+        return jpaQueryFactory.selectFrom(study)
+                .join(waitingApplicant)
+                .on(study.id.eq(waitingApplicant.study.id))
+                .where(
+                        waitingApplicant.member.id.eq(member.getId()),
+                        study.deleting.isFalse()
+                )
+                .orderBy(waitingApplicant.id.asc())
+                .fetch();
+    }
+
     @Override
     public List<Study> findMyParticipates(Member member) {
         return jpaQueryFactory.selectFrom(study)
                 .leftJoin(participant)
                 .on(study.id.eq(participant.study.id))
-                .where(participant.member.id.eq(member.getId()))
+                .where(
+                        participant.member.id.eq(member.getId()),
+                        study.deleting.isFalse()
+                )
                 .orderBy(participant.participationDate.desc())
                 .fetchJoin().fetch();
     }
@@ -88,10 +285,34 @@ public class StudyRepositoryImpl implements StudyRepositoryCustom {
     @Override
     public List<Study> findStudyStatusIsNotCompleted() {
         return jpaQueryFactory.selectFrom(study)
-                .where(study.studyStatus.ne(StudyStatus.COMPLETION))
+                .where(
+                        study.studyStatus.ne(StudyStatus.COMPLETION),
+                        study.deleting.isFalse()
+                )
                 .fetch();
     }
 
+    @Override
+    public Map<Long, List<String>> findTagTextsByStudyIds(List<Long> studyIds) {
+        return jpaQueryFactory.select(study.id, tag.tagText)
+                .from(study)
+                .join(study.tags, tag)
+                .where(study.id.in(studyIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(study.id),
+                        Collectors.mapping(tuple -> tuple.get(tag.tagText), Collectors.toList())
+                ));
+    }
+
+    private BooleanExpression lessThanStudyId(CursorRequest request) {
+        if (request.hasKey()) {
+            return study.id.lt(request.getKey());
+        }
+        return null;
+    }
+
     private BooleanExpression likeTitle(String title) {
         if (StringUtils.hasText(title)) {
             return study.title.like("%" + title + "%");
@@ -106,10 +327,18 @@ public class StudyRepositoryImpl implements StudyRepositoryCustom {
         return null;
     }
 
-    private BooleanExpression likeTag(String tag) {
-        if (StringUtils.hasText(tag)) {
-            return study.tags.any().tagText.containsIgnoreCase(tag);
+    private BooleanExpression likeTags(SearchCondition condition) {
+        BooleanExpression likeTags = null;
+        for (String tag : condition.getTagKeywords()) {
+            BooleanExpression likeTag = study.tags.any().tagText.containsIgnoreCase(tag);
+            if (likeTags == null) {
+                likeTags = likeTag;
+            } else if (condition.matchAnyTag()) {
+                likeTags = likeTags.or(likeTag);
+            } else {
+                likeTags = likeTags.and(likeTag);
+            }
         }
-        return null;
+        return likeTags;
     }
 }
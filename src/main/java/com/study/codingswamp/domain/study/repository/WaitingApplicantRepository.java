@@ -0,0 +1,25 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.study.codingswamp.domain.study.entity.WaitingApplicant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface WaitingApplicantRepository extends JpaRepository<WaitingApplicant, Long>, WaitingApplicantRepositoryCustom {
+
+    long countByStudyId(Long studyId);
+
+    boolean existsByStudyId(Long studyId);
+
+    boolean existsByStudyIdAndMemberId(Long studyId, Long memberId);
+
+    Optional<WaitingApplicant> findByStudyIdAndMemberId(Long studyId, Long memberId);
+
+    /**
+     * 맨 앞 대기자를 행 잠금과 함께 가져온다. 동시에 자리가 나도 같은 대기자를 두 번 올리지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<WaitingApplicant> findFirstByStudyIdOrderByIdAsc(Long studyId);
+}
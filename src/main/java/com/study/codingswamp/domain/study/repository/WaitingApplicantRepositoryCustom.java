@@ -0,0 +1,12 @@
+package com.study.codingswamp.domain.study.repository;
+
+import java.util.List;
+
+public interface WaitingApplicantRepositoryCustom {
+
+    void deleteByStudyId(Long studyId);
+
+    List<Long> findIdsByStudyId(Long studyId, int limit);
+
+    List<Long> findIdsByMemberId(Long memberId, int limit);
+}
@@ -0,0 +1,39 @@
+package com.study.codingswamp.domain.study.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.study.codingswamp.domain.study.entity.QWaitingApplicant.waitingApplicant;
+
+@RequiredArgsConstructor
+public class WaitingApplicantRepositoryImpl implements WaitingApplicantRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public void deleteByStudyId(Long studyId) {
+        jpaQueryFactory.delete(waitingApplicant)
+                .where(waitingApplicant.study.id.eq(studyId))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findIdsByStudyId(Long studyId, int limit) {
+        return jpaQueryFactory.select(waitingApplicant.id)
+                .from(waitingApplicant)
+                .where(waitingApplicant.study.id.eq(studyId))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findIdsByMemberId(Long memberId, int limit) {
+        return jpaQueryFactory.select(waitingApplicant.id)
+                .from(waitingApplicant)
+                .where(waitingApplicant.member.id.eq(memberId))
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.codingswamp.domain.study.schedule;
+
+import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.domain.study.service.StudyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 삭제 대기로 표시된 큰 스터디를 chunkSize 개씩 별도 트랜잭션으로 나눠 지운다.
+ */
+@Component
+@Slf4j
+public class StudyDeletionWorker {
+
+    private final StudyRepository studyRepository;
+    private final StudyService studyService;
+    private final int chunkSize;
+
+    public StudyDeletionWorker(StudyRepository studyRepository,
+                               StudyService studyService,
+                               @Value("${app.study.deletion.chunk-size:500}") int chunkSize) {
+        this.studyRepository = studyRepository;
+        this.studyService = studyService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.study.deletion.fixed-delay:60000}")
+    public void deleteMarkedStudies() {
+        List<Long> studyIds = studyRepository.findDeletingStudyIds();
+        for (Long studyId : studyIds) {
+            int chunkCount = 0;
+            while (!studyService.deleteChunk(studyId, chunkSize)) {
+                chunkCount++;
+            }
+            log.info("Deleted marked study studyId={} chunks={}", studyId, chunkCount);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.codingswamp.domain.study.schedule;
+
+import com.study.codingswamp.domain.study.cache.StudyDetailCache;
+import com.study.codingswamp.domain.study.cache.StudyDetailCacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 상세 캐시의 적중률과 크기를 주기적으로 로그에 남긴다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StudyDetailCacheStatsReporter {
+
+    private final StudyDetailCache studyDetailCache;
+
+    @Scheduled(fixedDelayString = "${app.cache.study-detail.stats-fixed-delay:600000}")
+    public void report() {
+        StudyDetailCacheStats stats = studyDetailCache.getStats();
+        log.info("Study detail cache hits={} misses={} hitRate={} evictions={} size={} versions={}",
+                stats.getHitCount(), stats.getMissCount(), String.format("%.3f", stats.getHitRate()),
+                stats.getEvictionCount(), stats.getSize(), stats.getVersionCount());
+    }
+}
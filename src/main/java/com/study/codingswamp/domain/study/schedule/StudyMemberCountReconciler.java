@@ -0,0 +1,35 @@
+package com.study.codingswamp.domain.study.schedule;
+
+import com.study.codingswamp.domain.study.service.StudyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 인원 수를 참가자 수와 주기적으로 맞춘다. batchSize 개씩 id 순으로 훑으며 묶음마다 트랜잭션을 나눈다.
+ */
+@Component
+@Slf4j
+public class StudyMemberCountReconciler {
+
+    private final StudyService studyService;
+    private final int batchSize;
+
+    public StudyMemberCountReconciler(StudyService studyService,
+                                      @Value("${app.study.member-count.reconcile-batch-size:500}") int batchSize) {
+        this.studyService = studyService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.study.member-count.reconcile-cron:0 30 0 * * *}")
+    public void reconcile() {
+        Long lastStudyId = 0L;
+        int batchCount = 0;
+        while (lastStudyId != null) {
+            lastStudyId = studyService.reconcileMemberCounts(lastStudyId, batchSize);
+            batchCount++;
+        }
+        log.info("Reconciled study member counts batches={}", batchCount - 1);
+    }
+}
@@ -0,0 +1,182 @@
+package com.study.codingswamp.domain.study.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성용 prefix trie. 단어마다 사용한 스터디 수와 인기도 가중치를 보관하고,
+ * 접두어 아래의 단어 중 가중치가 큰 순서로 상위 size 개를 반환한다.
+ * 노드마다 하위 단어의 상위 capacity 개를 add/remove 때 갱신해 두므로 조회는 접두어 길이 + size 만큼만 든다.
+ */
+public class AutocompleteTrie {
+
+    /**
+     * 자동완성 API 가 허용하는 최대 추천 수와 같다.
+     */
+    public static final int DEFAULT_CAPACITY = 20;
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::getScore)
+            .reversed()
+            .thenComparing(Suggestion::getText);
+
+    private final Node root = new Node();
+    private final int capacity;
+
+    public AutocompleteTrie() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AutocompleteTrie(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void add(String word, long weight) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        for (int index = 0; index < word.length(); index++) {
+            node = node.children.computeIfAbsent(word.charAt(index), key -> new Node());
+            path.add(node);
+        }
+        node.word = word;
+        node.count++;
+        node.weight += weight;
+
+        // 가중치가 커지기만 하므로 각 노드의 상위 목록에 넣어 보고 넘치는 것만 잘라 내면 된다.
+        Suggestion suggestion = new Suggestion(word, node.weight);
+        for (Node pathNode : path) {
+            pathNode.removeSuggestion(word);
+            pathNode.offer(suggestion, capacity);
+        }
+    }
+
+    public void remove(String word, long weight) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        for (int index = 0; index < word.length(); index++) {
+            node = node.children.get(word.charAt(index));
+            if (node == null) {
+                return;
+            }
+            path.add(node);
+        }
+        if (node.count == 0) {
+            return;
+        }
+        node.count--;
+        node.weight -= weight;
+        if (node.count == 0) {
+            node.weight = 0;
+            node.word = null;
+        }
+
+        // 가중치가 작아지면 상위 목록 밖의 단어가 올라올 수 있다. 자식이 먼저 맞아야 하므로 아래에서부터 갱신한다.
+        Suggestion replacement = node.count > 0 ? new Suggestion(word, node.weight) : null;
+        for (int index = path.size() - 1; index >= 0; index--) {
+            demote(path.get(index), word, replacement);
+        }
+        prune(path, word);
+    }
+
+    public List<Suggestion> suggest(String prefix, int size) {
+        Node node = root;
+        for (int index = 0; index < prefix.length() && node != null; index++) {
+            node = node.children.get(prefix.charAt(index));
+        }
+        if (node == null || node == root || size <= 0) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(node.topSuggestions.subList(0, Math.min(size, node.topSuggestions.size())));
+    }
+
+    private void demote(Node node, String word, Suggestion replacement) {
+        List<Suggestion> topSuggestions = node.topSuggestions;
+        int position = node.indexOf(word);
+        if (position < 0) {
+            return;
+        }
+        boolean truncated = topSuggestions.size() == capacity;
+        Suggestion boundary = topSuggestions.get(topSuggestions.size() - 1);
+        topSuggestions.remove(position);
+        if (!truncated) {
+            if (replacement != null) {
+                node.offer(replacement, capacity);
+            }
+            return;
+        }
+        // 잘린 목록이면 빠진 자리를 채울 후보를 모르므로, 대체 값이 원래 경계보다 앞서는 경우에만 바로 넣는다.
+        if (replacement != null && position != capacity - 1 && RANKING.compare(replacement, boundary) < 0) {
+            node.offer(replacement, capacity);
+            return;
+        }
+        rebuild(node);
+    }
+
+    /**
+     * 자신의 단어와 자식들의 상위 목록을 합쳐 상위 목록을 다시 만든다. 자식 수 x capacity 만큼 든다.
+     */
+    private void rebuild(Node node) {
+        List<Suggestion> candidates = new ArrayList<>();
+        if (node.count > 0) {
+            candidates.add(new Suggestion(node.word, node.weight));
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.topSuggestions);
+        }
+        candidates.sort(RANKING);
+        node.topSuggestions.clear();
+        node.topSuggestions.addAll(candidates.subList(0, Math.min(capacity, candidates.size())));
+    }
+
+    private void prune(List<Node> path, String word) {
+        for (int index = path.size() - 1; index >= 0; index--) {
+            Node node = path.get(index);
+            if (node.count > 0 || !node.children.isEmpty()) {
+                return;
+            }
+            Node parent = index == 0 ? root : path.get(index - 1);
+            parent.children.remove(word.charAt(index));
+        }
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Suggestion> topSuggestions = new ArrayList<>();
+        private String word;
+        private int count;
+        private long weight;
+
+        private int indexOf(String text) {
+            for (int index = 0; index < topSuggestions.size(); index++) {
+                if (topSuggestions.get(index).getText().equals(text)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private void removeSuggestion(String text) {
+            int index = indexOf(text);
+            if (index >= 0) {
+                topSuggestions.remove(index);
+            }
+        }
+
+        private void offer(Suggestion suggestion, int capacity) {
+            int position = 0;
+            while (position < topSuggestions.size() && RANKING.compare(topSuggestions.get(position), suggestion) < 0) {
+                position++;
+            }
+            if (position >= capacity) {
+                return;
+            }
+            topSuggestions.add(position, suggestion);
+            if (topSuggestions.size() > capacity) {
+                topSuggestions.remove(topSuggestions.size() - 1);
+            }
+        }
+    }
+}
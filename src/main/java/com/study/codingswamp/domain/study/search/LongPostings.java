@@ -0,0 +1,107 @@
+package com.study.codingswamp.domain.study.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 primitive long 배열 posting.
+ * 박싱 없이 이진 탐색과 병합으로 포함 여부, 교집합, 합집합을 계산한다.
+ */
+public class LongPostings {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private long[] values;
+    private int size;
+
+    public LongPostings() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    private LongPostings(int capacity) {
+        this.values = new long[Math.max(capacity, DEFAULT_CAPACITY)];
+    }
+
+    public boolean add(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return false;
+        }
+        int insertionPoint = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+        values[insertionPoint] = value;
+        size++;
+        return true;
+    }
+
+    public boolean remove(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    public long get(int index) {
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public static LongPostings and(LongPostings left, LongPostings right) {
+        LongPostings result = new LongPostings(Math.min(left.size, right.size));
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            if (left.values[i] == right.values[j]) {
+                result.append(left.values[i]);
+                i++;
+                j++;
+            } else if (left.values[i] < right.values[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public static LongPostings or(LongPostings left, LongPostings right) {
+        LongPostings result = new LongPostings(left.size + right.size);
+        int i = 0;
+        int j = 0;
+        while (i < left.size || j < right.size) {
+            if (j == right.size || (i < left.size && left.values[i] < right.values[j])) {
+                result.append(left.values[i++]);
+            } else if (i == left.size || right.values[j] < left.values[i]) {
+                result.append(right.values[j++]);
+            } else {
+                result.append(left.values[i]);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private void append(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+}
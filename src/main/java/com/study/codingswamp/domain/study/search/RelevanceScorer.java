@@ -0,0 +1,78 @@
+package com.study.codingswamp.domain.study.search;
+
+import lombok.Getter;
+
+/**
+ * 제목, 설명, 태그 필드에 가중치를 둔 BM25 점수를 계산한다.
+ * 필드별 평균 길이를 구하기 위한 문서 수와 길이 합은 색인 변경 시 증분으로 유지한다.
+ */
+public class RelevanceScorer {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_BOOST = 3.0;
+    private static final double TAG_BOOST = 2.0;
+    private static final double DESCRIPTION_BOOST = 1.0;
+
+    private long documentCount;
+    private long titleLengthSum;
+    private long descriptionLengthSum;
+    private long tagLengthSum;
+
+    public void add(int titleLength, int descriptionLength, int tagLength) {
+        documentCount++;
+        titleLengthSum += titleLength;
+        descriptionLengthSum += descriptionLength;
+        tagLengthSum += tagLength;
+    }
+
+    public void remove(int titleLength, int descriptionLength, int tagLength) {
+        documentCount--;
+        titleLengthSum -= titleLength;
+        descriptionLengthSum -= descriptionLength;
+        tagLengthSum -= tagLength;
+    }
+
+    public double idf(long documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * 검색어 하나에 대해 필드별 정규화한 tf 를 가중합한 뒤 BM25 포화 함수를 적용한다.
+     */
+    public double score(double idf, FieldFrequency title, FieldFrequency description, FieldFrequency tag) {
+        double weightedFrequency = TITLE_BOOST * normalize(title, titleLengthSum)
+                + DESCRIPTION_BOOST * normalize(description, descriptionLengthSum)
+                + TAG_BOOST * normalize(tag, tagLengthSum);
+        if (weightedFrequency == 0) {
+            return 0;
+        }
+        return idf * weightedFrequency * (K1 + 1) / (weightedFrequency + K1);
+    }
+
+    private double normalize(FieldFrequency field, long lengthSum) {
+        if (field.getFrequency() == 0) {
+            return 0;
+        }
+        double averageLength = documentCount == 0 ? 1 : Math.max(1.0, (double) lengthSum / documentCount);
+        return field.getFrequency() / (1 - B + B * field.getLength() / averageLength);
+    }
+
+    @Getter
+    public static class FieldFrequency {
+
+        private static final FieldFrequency NONE = new FieldFrequency(0, 0);
+
+        private final int frequency;
+        private final int length;
+
+        public FieldFrequency(int frequency, int length) {
+            this.frequency = frequency;
+            this.length = length;
+        }
+
+        public static FieldFrequency none() {
+            return NONE;
+        }
+    }
+}
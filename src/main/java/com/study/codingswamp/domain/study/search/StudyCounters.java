@@ -0,0 +1,60 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.entity.StudyStatus;
+import com.study.codingswamp.domain.study.entity.StudyType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 색인된 스터디의 전체, 타입별, 상태별 개수를 증분으로 유지한다.
+ * 목록 조회의 전체 페이지 계산과 조건 없는 검색의 facet 을 문서를 훑지 않고 처리하기 위해 사용한다.
+ */
+public class StudyCounters {
+
+    private long totalCount;
+    private final Map<StudyType, Long> studyTypeCounts = new EnumMap<>(StudyType.class);
+    private final Map<StudyStatus, Long> studyStatusCounts = new EnumMap<>(StudyStatus.class);
+
+    public void increase(StudyDocument document) {
+        add(document, 1L);
+    }
+
+    public void decrease(StudyDocument document) {
+        add(document, -1L);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 조건 없는 검색의 타입별 facet. 개수가 0 인 타입은 검색 결과 facet 과 같이 뺀다.
+     */
+    public Map<StudyType, Long> getStudyTypeCounts() {
+        return positive(studyTypeCounts, new EnumMap<>(StudyType.class));
+    }
+
+    public Map<StudyStatus, Long> getStudyStatusCounts() {
+        return positive(studyStatusCounts, new EnumMap<>(StudyStatus.class));
+    }
+
+    private <K> Map<K, Long> positive(Map<K, Long> counts, Map<K, Long> result) {
+        counts.forEach((key, count) -> {
+            if (count > 0) {
+                result.put(key, count);
+            }
+        });
+        return result;
+    }
+
+    private void add(StudyDocument document, long delta) {
+        totalCount += delta;
+        if (document.getStudyType() != null) {
+            studyTypeCounts.merge(document.getStudyType(), delta, Long::sum);
+        }
+        if (document.getStudyStatus() != null) {
+            studyStatusCounts.merge(document.getStudyStatus(), delta, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.StudyStatus;
+import com.study.codingswamp.domain.study.entity.StudyType;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StudyDocument {
+
+    private final Long studyId;
+    private final String title;
+    private final String description;
+    private final StudyType studyType;
+    private final StudyStatus studyStatus;
+    private final int currentMemberCount;
+    private final List<String> tags;
+
+    public StudyDocument(Long studyId, String title, String description, StudyType studyType,
+                         StudyStatus studyStatus, int currentMemberCount, List<String> tags) {
+        this.studyId = studyId;
+        this.title = title;
+        this.description = description;
+        this.studyType = studyType;
+        this.studyStatus = studyStatus;
+        this.currentMemberCount = currentMemberCount;
+        this.tags = tags;
+    }
+
+    public static StudyDocument of(Study study, List<String> tags) {
+        return new StudyDocument(study.getId(), study.getTitle(), study.getDescription(), study.getStudyType(),
+                study.getStudyStatus(), study.getCurrentMemberCount(), tags);
+    }
+}
@@ -0,0 +1,63 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.repository.StudyRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋된 스터디를 DB 에서 읽어 색인 문서로 만든다. 삭제 중인 스터디는 문서로 만들지 않는다.
+ * 다른 트랜잭션이 끝난 뒤에도 호출되므로 항상 새 읽기 전용 트랜잭션에서 읽는다.
+ */
+@Component
+public class StudyDocumentLoader {
+
+    private final StudyRepository studyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudyDocumentLoader(StudyRepository studyRepository, PlatformTransactionManager transactionManager) {
+        this.studyRepository = studyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public List<StudyDocument> load(CursorRequest cursorRequest) {
+        return transactionTemplate.execute(status -> toDocuments(studyRepository.getStudies(cursorRequest)));
+    }
+
+    public Map<Long, StudyDocument> load(Collection<Long> studyIds) {
+        return transactionTemplate.execute(status -> {
+            List<Study> studies = studyRepository.findAllById(studyIds)
+                    .stream()
+                    .filter(study -> !study.isDeleting())
+                    .collect(Collectors.toList());
+            return toDocuments(studies)
+                    .stream()
+                    .collect(Collectors.toMap(StudyDocument::getStudyId, Function.identity()));
+        });
+    }
+
+    private List<StudyDocument> toDocuments(List<Study> studies) {
+        if (studies.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> studyIds = studies.stream()
+                .map(Study::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<String>> tagTexts = studyRepository.findTagTextsByStudyIds(studyIds);
+        return studies.stream()
+                .map(study -> StudyDocument.of(study, tagTexts.getOrDefault(study.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+}
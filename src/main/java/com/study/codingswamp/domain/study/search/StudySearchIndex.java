@@ -0,0 +1,579 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.dto.request.SearchCondition;
+import com.study.codingswamp.domain.study.dto.response.AutocompleteResponse;
+import com.study.codingswamp.domain.study.dto.response.FacetsResponse;
+import com.study.codingswamp.domain.study.dto.response.TagFacetResponse;
+import com.study.codingswamp.domain.study.entity.StudyStatus;
+import com.study.codingswamp.domain.study.entity.StudyType;
+import com.study.codingswamp.domain.study.search.tokenizer.Tokenizer;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 스터디 제목, 설명, 태그에 대한 메모리 역색인.
+ * 제목은 단어마다 {@link Tokenizer} 가 만든 term 으로 색인하여 제목 부분 검색을 인덱스 조회로 처리한다.
+ * 설명은 검색 조건으로 쓰지 않으므로 posting 을 만들지 않고, 관련도 점수에 쓸 term 별 빈도만 남겨 둔다.
+ * 태그는 {@link TagDictionary} 로 intern 하여 태그 필터를 posting 집합 연산으로 처리한다.
+ * 전체, 타입별, 상태별 개수는 {@link StudyCounters} 로 색인과 함께 증분 유지한다.
+ * 정확한 개수로 검색하면 결과 집합에 대한 facet 도 함께 계산하고, 추정 개수로 검색하면 빈 facet 을 돌려준다.
+ * 제목 단어와 태그는 {@link AutocompleteTrie} 에도 넣어 자동완성을 DB 조회 없이 처리한다.
+ * 관련도순 정렬은 {@link RelevanceScorer} 의 BM25 점수로 상위 결과를 고른다.
+ * 필드 길이와 term 별 빈도는 색인할 때 한 번 계산해 두고 검색 때는 조회만 한다.
+ * 색인 변경은 {@link StudySearchIndexUpdater} 가 트랜잭션이 커밋된 뒤에 반영한다.
+ * 준비 중에 지운 스터디 id 는 기억해 두었다가, 그보다 먼저 읽어 둔 초기 적재 묶음이 다시 넣지 못하게 한다.
+ */
+@Component
+public class StudySearchIndex {
+
+    private static final NavigableSet<Long> EMPTY = Collections.emptyNavigableSet();
+    private static final int TOP_TAG_SIZE = 10;
+    private static final Comparator<ScoredStudy> BY_RELEVANCE = Comparator.comparingDouble(ScoredStudy::getScore)
+            .thenComparingLong(ScoredStudy::getStudyId)
+            .reversed();
+
+    private final Map<Long, StudyDocument> documents = new HashMap<>();
+    private final Map<Long, AnalyzedDocument> analyzedDocuments = new HashMap<>();
+    private final NavigableSet<Long> allStudyIds = newPostings();
+    private final Map<String, NavigableSet<Long>> titlePostings = new HashMap<>();
+    private final TagDictionary tagDictionary = new TagDictionary();
+    private final StudyCounters counters = new StudyCounters();
+    private final AutocompleteTrie titleTrie = new AutocompleteTrie();
+    private final AutocompleteTrie tagTrie = new AutocompleteTrie();
+    private final RelevanceScorer relevanceScorer = new RelevanceScorer();
+    private final Map<StudyType, NavigableSet<Long>> typePostings = new EnumMap<>(StudyType.class);
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Tokenizer tokenizer;
+    private volatile boolean ready;
+
+    public StudySearchIndex(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(StudyDocument document) {
+        lock.writeLock().lock();
+        try {
+            replace(documents.get(document.getStudyId()), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void load(StudyDocument document) {
+        lock.writeLock().lock();
+        try {
+            Long studyId = document.getStudyId();
+            if (!documents.containsKey(studyId) && !removedWhileLoading.contains(studyId)) {
+                add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                removedWhileLoading.add(studyId);
+            }
+            StudyDocument previous = documents.get(studyId);
+            if (previous != null) {
+                delete(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return counters.getTotalCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 단어는 스터디 현재 인원 합, 태그는 사용한 스터디 수가 많은 순으로 추천한다.
+     */
+    public AutocompleteResponse autocomplete(String keyword, int size) {
+        if (!StringUtils.hasText(keyword)) {
+            return new AutocompleteResponse(new ArrayList<>(), new ArrayList<>());
+        }
+        String prefix = normalize(keyword);
+        lock.readLock().lock();
+        try {
+            return new AutocompleteResponse(titleTrie.suggest(prefix, size), tagTrie.suggest(prefix, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public StudySearchResult search(SearchCondition condition) {
+        StudyType studyType = condition.mapToStudyType();
+        boolean matchAnyTag = condition.matchAnyTag();
+        lock.readLock().lock();
+        try {
+            Query query = parse(condition.getTitle(), studyType, condition.getTagKeywords(), matchAnyTag);
+            if (condition.sortByRelevance()) {
+                NavigableSet<Long> matches = match(query);
+                List<Long> studyIds = rank(matches, query, condition.getOffset(), condition.getValidatedSize());
+                return new StudySearchResult(studyIds, matches.size(), facets(matches));
+            }
+            if (condition.isApproximateCount()) {
+                return searchApproximately(query, condition.getOffset(), condition.getValidatedSize());
+            }
+            NavigableSet<Long> matches = match(query);
+            List<Long> studyIds = matches.stream()
+                    .skip(condition.getOffset())
+                    .limit(condition.getValidatedSize())
+                    .collect(Collectors.toList());
+            return new StudySearchResult(studyIds, matches.size(), facets(matches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Query parse(String text, StudyType studyType, List<String> tagKeywords, boolean matchAnyTag) {
+        Query query = new Query();
+        for (String word : split(text)) {
+            List<String> queryTerms = tokenizer.queryTerms(word);
+            long documentFrequency = Long.MAX_VALUE;
+            for (String term : queryTerms) {
+                NavigableSet<Long> postings = titlePostings.getOrDefault(term, EMPTY);
+                query.postings.add(postings);
+                documentFrequency = Math.min(documentFrequency, postings.size());
+            }
+            if (queryTerms.size() > 1) {
+                query.unverifiedWords.add(word);
+            }
+            query.wordTerms.add(queryTerms);
+            query.wordFrequencies.add(queryTerms.isEmpty() ? 0 : documentFrequency);
+        }
+        if (studyType != null) {
+            query.postings.add(typePostings.getOrDefault(studyType, EMPTY));
+        }
+        for (String tagKeyword : tagKeywords) {
+            LongPostings tagMatches = tagDictionary.match(tagKeyword);
+            query.tagKeywords.add(TagDictionary.normalize(tagKeyword));
+            query.tagFrequencies.add((long) tagMatches.size());
+            query.tagMatches = combine(query.tagMatches, tagMatches, matchAnyTag);
+        }
+        return query;
+    }
+
+    private NavigableSet<Long> match(Query query) {
+        NavigableSet<Long> matches = allStudyIds;
+        for (NavigableSet<Long> postings : query.postings) {
+            matches = intersect(matches, postings);
+        }
+        if (query.tagMatches != null) {
+            matches = intersect(matches, query.tagMatches);
+        }
+        if (!query.unverifiedWords.isEmpty()) {
+            matches = verify(matches, query.unverifiedWords);
+        }
+        return matches;
+    }
+
+    /**
+     * 가장 작은 posting 을 최신순으로 훑으면서 요청한 페이지까지만 매칭한다.
+     * 끝까지 훑지 않은 경우 전체 개수는 지금까지의 매칭 비율로 추정한다.
+     */
+    private StudySearchResult searchApproximately(Query query, long offset, int size) {
+        NavigableSet<Long> driver = query.postings.stream()
+                .min(Comparator.comparingInt(Set::size))
+                .orElse(allStudyIds);
+        if (query.tagMatches != null && query.tagMatches.size() < driver.size()) {
+            driver = toNavigableSet(query.tagMatches);
+        }
+
+        List<Long> studyIds = new ArrayList<>();
+        long matchedCount = 0;
+        long scannedCount = 0;
+        Iterator<Long> candidates = driver.iterator();
+        while (candidates.hasNext() && matchedCount < offset + size) {
+            Long studyId = candidates.next();
+            scannedCount++;
+            if (query.matches(studyId)) {
+                if (matchedCount >= offset) {
+                    studyIds.add(studyId);
+                }
+                matchedCount++;
+            }
+        }
+        if (!candidates.hasNext()) {
+            return new StudySearchResult(studyIds, matchedCount);
+        }
+        long estimatedCount = Math.round((double) matchedCount / scannedCount * driver.size());
+        return new StudySearchResult(studyIds, Math.max(estimatedCount, matchedCount));
+    }
+
+    /**
+     * 검색 결과 전체에 점수를 매기되, offset + size 크기의 힙만 유지하여 상위 결과를 고른다.
+     */
+    private List<Long> rank(NavigableSet<Long> matches, Query query, long offset, int size) {
+        long limit = offset + size;
+        PriorityQueue<ScoredStudy> topStudies = new PriorityQueue<>(BY_RELEVANCE.reversed());
+        for (Long studyId : matches) {
+            topStudies.offer(new ScoredStudy(studyId, score(analyzedDocuments.get(studyId), query)));
+            if (topStudies.size() > limit) {
+                topStudies.poll();
+            }
+        }
+        return topStudies.stream()
+                .sorted(BY_RELEVANCE)
+                .skip(offset)
+                .map(ScoredStudy::getStudyId)
+                .collect(Collectors.toList());
+    }
+
+    private double score(AnalyzedDocument document, Query query) {
+        double score = 0;
+        for (int index = 0; index < query.wordTerms.size(); index++) {
+            List<String> queryTerms = query.wordTerms.get(index);
+            score += relevanceScorer.score(
+                    relevanceScorer.idf(query.wordFrequencies.get(index)),
+                    document.title.frequency(queryTerms),
+                    document.description.frequency(queryTerms),
+                    document.tags.frequency(queryTerms)
+            );
+        }
+        for (int index = 0; index < query.tagKeywords.size(); index++) {
+            String tagKeyword = query.tagKeywords.get(index);
+            int tagFrequency = 0;
+            for (String tagText : document.tags.words) {
+                if (tagText.contains(tagKeyword)) {
+                    tagFrequency++;
+                }
+            }
+            score += relevanceScorer.score(
+                    relevanceScorer.idf(query.tagFrequencies.get(index)),
+                    RelevanceScorer.FieldFrequency.none(),
+                    RelevanceScorer.FieldFrequency.none(),
+                    new RelevanceScorer.FieldFrequency(tagFrequency, document.tags.length)
+            );
+        }
+        return score;
+    }
+
+    /**
+     * 검색 결과를 한 번 순회하면서 타입별, 상태별, 태그별 개수를 함께 센다.
+     * 조건 없는 검색은 전체 문서를 훑지 않고 증분 유지한 개수와 태그 사전의 posting 크기로 답한다.
+     */
+    private FacetsResponse facets(NavigableSet<Long> matches) {
+        if (matches == allStudyIds) {
+            return new FacetsResponse(counters.getStudyTypeCounts(), counters.getStudyStatusCounts(),
+                    topTags(tagDictionary.counts()));
+        }
+        Map<StudyType, Long> studyTypes = new EnumMap<>(StudyType.class);
+        Map<StudyStatus, Long> studyStatuses = new EnumMap<>(StudyStatus.class);
+        Map<String, Long> tagCounts = new HashMap<>();
+        for (Long studyId : matches) {
+            StudyDocument document = documents.get(studyId);
+            if (document.getStudyType() != null) {
+                studyTypes.merge(document.getStudyType(), 1L, Long::sum);
+            }
+            if (document.getStudyStatus() != null) {
+                studyStatuses.merge(document.getStudyStatus(), 1L, Long::sum);
+            }
+            for (String tagText : analyzedDocuments.get(studyId).tags.words) {
+                tagCounts.merge(tagText, 1L, Long::sum);
+            }
+        }
+        return new FacetsResponse(studyTypes, studyStatuses, topTags(tagCounts));
+    }
+
+    private List<TagFacetResponse> topTags(Map<String, Long> tagCounts) {
+        return tagCounts.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(TOP_TAG_SIZE)
+                .map(entry -> new TagFacetResponse(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private NavigableSet<Long> verify(NavigableSet<Long> candidates, List<String> queryWords) {
+        NavigableSet<Long> verified = newPostings();
+        for (Long studyId : candidates) {
+            if (isVerified(studyId, queryWords)) {
+                verified.add(studyId);
+            }
+        }
+        return verified;
+    }
+
+    private boolean isVerified(Long studyId, List<String> queryWords) {
+        AnalyzedDocument document = analyzedDocuments.get(studyId);
+        return queryWords.stream()
+                .allMatch(queryWord -> document.title.contains(tokenizer, queryWord));
+    }
+
+    private LongPostings combine(LongPostings matches, LongPostings tagMatches, boolean matchAnyTag) {
+        if (matches == null) {
+            return tagMatches;
+        }
+        if (matchAnyTag) {
+            return LongPostings.or(matches, tagMatches);
+        }
+        return LongPostings.and(matches, tagMatches);
+    }
+
+    private NavigableSet<Long> intersect(NavigableSet<Long> left, NavigableSet<Long> right) {
+        if (left == allStudyIds) {
+            return right;
+        }
+        NavigableSet<Long> smaller = left.size() <= right.size() ? left : right;
+        NavigableSet<Long> larger = smaller == left ? right : left;
+        NavigableSet<Long> intersection = newPostings();
+        for (Long studyId : smaller) {
+            if (larger.contains(studyId)) {
+                intersection.add(studyId);
+            }
+        }
+        return intersection;
+    }
+
+    private NavigableSet<Long> toNavigableSet(LongPostings postings) {
+        NavigableSet<Long> studyIds = newPostings();
+        for (int index = 0; index < postings.size(); index++) {
+            studyIds.add(postings.get(index));
+        }
+        return studyIds;
+    }
+
+    private NavigableSet<Long> intersect(NavigableSet<Long> matches, LongPostings postings) {
+        NavigableSet<Long> intersection = newPostings();
+        if (postings.size() <= matches.size()) {
+            for (int index = postings.size() - 1; index >= 0; index--) {
+                long studyId = postings.get(index);
+                if (matches.contains(studyId)) {
+                    intersection.add(studyId);
+                }
+            }
+            return intersection;
+        }
+        for (Long studyId : matches) {
+            if (postings.contains(studyId)) {
+                intersection.add(studyId);
+            }
+        }
+        return intersection;
+    }
+
+    private void replace(StudyDocument previous, StudyDocument document) {
+        if (previous != null) {
+            delete(previous);
+        }
+        add(document);
+    }
+
+    private void add(StudyDocument document) {
+        Long studyId = document.getStudyId();
+        AnalyzedDocument analyzed = analyze(document);
+        documents.put(studyId, document);
+        analyzedDocuments.put(studyId, analyzed);
+        allStudyIds.add(studyId);
+        counters.increase(document);
+        relevanceScorer.add(analyzed.title.length, analyzed.description.length, analyzed.tags.length);
+        for (String term : analyzed.title.termFrequencies.keySet()) {
+            titlePostings.computeIfAbsent(term, key -> newPostings()).add(studyId);
+        }
+        for (String word : analyzed.title.words) {
+            titleTrie.add(word, document.getCurrentMemberCount());
+        }
+        for (String tagText : analyzed.tags.words) {
+            tagDictionary.add(tagText, studyId);
+            tagTrie.add(tagText, 1);
+        }
+        if (document.getStudyType() != null) {
+            typePostings.computeIfAbsent(document.getStudyType(), key -> newPostings()).add(studyId);
+        }
+    }
+
+    private void delete(StudyDocument document) {
+        Long studyId = document.getStudyId();
+        AnalyzedDocument analyzed = analyzedDocuments.remove(studyId);
+        documents.remove(studyId);
+        allStudyIds.remove(studyId);
+        counters.decrease(document);
+        relevanceScorer.remove(analyzed.title.length, analyzed.description.length, analyzed.tags.length);
+        for (String term : analyzed.title.termFrequencies.keySet()) {
+            removePosting(titlePostings, term, studyId);
+        }
+        for (String word : analyzed.title.words) {
+            titleTrie.remove(word, document.getCurrentMemberCount());
+        }
+        for (String tagText : analyzed.tags.words) {
+            tagDictionary.remove(tagText, studyId);
+            tagTrie.remove(tagText, 1);
+        }
+        if (document.getStudyType() != null) {
+            removePosting(typePostings, document.getStudyType(), studyId);
+        }
+    }
+
+    private <K> void removePosting(Map<K, NavigableSet<Long>> postings, K key, Long studyId) {
+        NavigableSet<Long> studyIds = postings.get(key);
+        if (studyIds == null) {
+            return;
+        }
+        studyIds.remove(studyId);
+        if (studyIds.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private AnalyzedDocument analyze(StudyDocument document) {
+        List<String> tags = document.getTags()
+                .stream()
+                .filter(StringUtils::hasText)
+                .map(TagDictionary::normalize)
+                .distinct()
+                .collect(Collectors.toList());
+        return new AnalyzedDocument(
+                analyze(split(document.getTitle())),
+                analyze(split(document.getDescription())),
+                analyze(tags)
+        );
+    }
+
+    private FieldStatistics analyze(List<String> words) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String word : words) {
+            for (String term : tokenizer.indexTerms(word)) {
+                termFrequencies.merge(term, 1, Integer::sum);
+            }
+        }
+        return new FieldStatistics(words.size(), new HashSet<>(words), termFrequencies);
+    }
+
+    private List<String> split(String text) {
+        if (!StringUtils.hasText(text)) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(normalize(text).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static NavigableSet<Long> newPostings() {
+        return new TreeSet<>(Comparator.reverseOrder());
+    }
+
+    private class Query {
+
+        private final List<NavigableSet<Long>> postings = new ArrayList<>();
+        private final List<String> unverifiedWords = new ArrayList<>();
+        private final List<List<String>> wordTerms = new ArrayList<>();
+        private final List<Long> wordFrequencies = new ArrayList<>();
+        private final List<String> tagKeywords = new ArrayList<>();
+        private final List<Long> tagFrequencies = new ArrayList<>();
+        private LongPostings tagMatches;
+
+        private boolean matches(Long studyId) {
+            for (NavigableSet<Long> studyIds : postings) {
+                if (!studyIds.contains(studyId)) {
+                    return false;
+                }
+            }
+            if (tagMatches != null && !tagMatches.contains(studyId)) {
+                return false;
+            }
+            return unverifiedWords.isEmpty() || isVerified(studyId, unverifiedWords);
+        }
+    }
+
+    private static class AnalyzedDocument {
+
+        private final FieldStatistics title;
+        private final FieldStatistics description;
+        private final FieldStatistics tags;
+
+        private AnalyzedDocument(FieldStatistics title, FieldStatistics description, FieldStatistics tags) {
+            this.title = title;
+            this.description = description;
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * 필드 하나의 단어 수, 서로 다른 단어, 색인 term 별로 그 term 을 가진 단어 수.
+     */
+    private static class FieldStatistics {
+
+        private final int length;
+        private final Set<String> words;
+        private final Map<String, Integer> termFrequencies;
+
+        private FieldStatistics(int length, Set<String> words, Map<String, Integer> termFrequencies) {
+            this.length = length;
+            this.words = words;
+            this.termFrequencies = termFrequencies;
+        }
+
+        /**
+         * term 이 하나면 그 term 을 가진 단어 수가 정확한 tf 이다.
+         * 여러 term 으로 나뉘는 긴 검색어는 term 별 단어 수의 최솟값을 tf 로 쓴다.
+         */
+        private RelevanceScorer.FieldFrequency frequency(List<String> queryTerms) {
+            if (queryTerms.isEmpty()) {
+                return new RelevanceScorer.FieldFrequency(0, length);
+            }
+            int frequency = Integer.MAX_VALUE;
+            for (String term : queryTerms) {
+                frequency = Math.min(frequency, termFrequencies.getOrDefault(term, 0));
+            }
+            return new RelevanceScorer.FieldFrequency(frequency, length);
+        }
+
+        private boolean contains(Tokenizer tokenizer, String queryWord) {
+            for (String word : words) {
+                if (tokenizer.matches(word, queryWord)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Getter
+    private static class ScoredStudy {
+
+        private final Long studyId;
+        private final double score;
+
+        private ScoredStudy(Long studyId, double score) {
+            this.studyId = studyId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndexInitializer {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final StudyDocumentLoader studyDocumentLoader;
+    private final StudySearchIndex studySearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("Start building study search index");
+        CursorRequest cursorRequest = new CursorRequest(CursorRequest.NONE_KEY, BATCH_SIZE);
+        int loadedCount = 0;
+        List<StudyDocument> documents;
+        do {
+            documents = studyDocumentLoader.load(cursorRequest);
+            documents.forEach(studySearchIndex::load);
+            loadedCount += documents.size();
+            if (!documents.isEmpty()) {
+                cursorRequest = cursorRequest.next(documents.get(documents.size() - 1).getStudyId());
+            }
+        } while (documents.size() == BATCH_SIZE);
+        studySearchIndex.markReady();
+        log.info("Study search index ready size={}", loadedCount);
+    }
+}
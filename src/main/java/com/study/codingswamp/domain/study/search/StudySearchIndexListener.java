@@ -0,0 +1,27 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.entity.Study;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Study 엔티티가 저장, 수정, 삭제될 때 검색 인덱스 갱신을 예약한다. 실제 반영은 커밋된 뒤에 한다.
+ * Hibernate 가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있다.
+ */
+public class StudySearchIndexListener {
+
+    private final StudySearchIndexUpdater studySearchIndexUpdater;
+
+    public StudySearchIndexListener(StudySearchIndexUpdater studySearchIndexUpdater) {
+        this.studySearchIndexUpdater = studySearchIndexUpdater;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Study study) {
+        studySearchIndexUpdater.changed(study.getId());
+    }
+}
@@ -0,0 +1,87 @@
+package com.study.codingswamp.domain.study.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 트랜잭션 안에서 바뀐 스터디 id 를 모아 두었다가 커밋된 뒤에 DB 에서 다시 읽어 색인에 반영한다.
+ * 커밋 전에는 다른 요청에 보이지 않고, 롤백되면 아무것도 반영하지 않는다.
+ * 다시 읽기와 반영을 한 번에 하나씩 하므로 먼저 커밋된 변경이 나중에 커밋된 변경을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class StudySearchIndexUpdater {
+
+    private final StudySearchIndex studySearchIndex;
+    // 엔티티 리스너가 이 빈을 쓰므로 EntityManagerFactory 에 의존하는 로더는 처음 쓸 때 가져온다.
+    private final ObjectProvider<StudyDocumentLoader> studyDocumentLoader;
+    private final Object refreshLock = new Object();
+
+    public StudySearchIndexUpdater(StudySearchIndex studySearchIndex,
+                                   ObjectProvider<StudyDocumentLoader> studyDocumentLoader) {
+        this.studySearchIndex = studySearchIndex;
+        this.studyDocumentLoader = studyDocumentLoader;
+    }
+
+    public void changed(Long studyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(List.of(studyId));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> changedStudyIds = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (changedStudyIds == null) {
+            changedStudyIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, changedStudyIds);
+            TransactionSynchronizationManager.registerSynchronization(new RefreshSynchronization(changedStudyIds));
+        }
+        changedStudyIds.add(studyId);
+    }
+
+    public void refresh(Collection<Long> studyIds) {
+        synchronized (refreshLock) {
+            Map<Long, StudyDocument> documents = studyDocumentLoader.getObject().load(studyIds);
+            for (Long studyId : studyIds) {
+                StudyDocument document = documents.get(studyId);
+                if (document == null) {
+                    studySearchIndex.remove(studyId);
+                } else {
+                    studySearchIndex.index(document);
+                }
+            }
+        }
+    }
+
+    private class RefreshSynchronization implements TransactionSynchronization {
+
+        private final Set<Long> changedStudyIds;
+
+        private RefreshSynchronization(Set<Long> changedStudyIds) {
+            this.changedStudyIds = changedStudyIds;
+        }
+
+        @Override
+        public void afterCommit() {
+            try {
+                refresh(changedStudyIds);
+            } catch (RuntimeException e) {
+                // 커밋은 이미 끝났으므로 요청을 실패시키지 않는다. 다음 변경이나 재시작 때 다시 색인된다.
+                log.error("Failed to refresh study search index studyIds={}", changedStudyIds, e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StudySearchIndexUpdater.this);
+        }
+    }
+}
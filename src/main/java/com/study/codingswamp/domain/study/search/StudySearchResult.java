@@ -0,0 +1,24 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.dto.response.FacetsResponse;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StudySearchResult {
+
+    private final List<Long> studyIds;
+    private final long totalCount;
+    private final FacetsResponse facets;
+
+    public StudySearchResult(List<Long> studyIds, long totalCount) {
+        this(studyIds, totalCount, FacetsResponse.empty());
+    }
+
+    public StudySearchResult(List<Long> studyIds, long totalCount, FacetsResponse facets) {
+        this.studyIds = studyIds;
+        this.totalCount = totalCount;
+        this.facets = facets;
+    }
+}
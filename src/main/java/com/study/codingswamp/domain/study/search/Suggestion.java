@@ -0,0 +1,15 @@
+package com.study.codingswamp.domain.study.search;
+
+import lombok.Getter;
+
+@Getter
+public class Suggestion {
+
+    private final String text;
+    private final long score;
+
+    public Suggestion(String text, long score) {
+        this.text = text;
+        this.score = score;
+    }
+}
@@ -0,0 +1,76 @@
+package com.study.codingswamp.domain.study.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 정규화한 태그 텍스트를 정수 id 로 intern 하고, 태그 id 별로 스터디 id posting 을 보관한다.
+ * 태그 검색은 전체 스터디가 아니라 서로 다른 태그 수만큼의 사전만 훑는다.
+ */
+public class TagDictionary {
+
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<String> tagTexts = new ArrayList<>();
+    private final List<LongPostings> postings = new ArrayList<>();
+
+    public static String normalize(String tagText) {
+        return tagText.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public int intern(String tagText) {
+        String normalized = normalize(tagText);
+        Integer tagId = tagIds.get(normalized);
+        if (tagId != null) {
+            return tagId;
+        }
+        tagIds.put(normalized, tagTexts.size());
+        tagTexts.add(normalized);
+        postings.add(new LongPostings());
+        return tagTexts.size() - 1;
+    }
+
+    public void add(String tagText, long studyId) {
+        postings.get(intern(tagText)).add(studyId);
+    }
+
+    public void remove(String tagText, long studyId) {
+        Integer tagId = tagIds.get(normalize(tagText));
+        if (tagId != null) {
+            postings.get(tagId).remove(studyId);
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 모든 태그의 posting 합집합을 반환한다.
+     */
+    public LongPostings match(String keyword) {
+        String normalized = normalize(keyword);
+        LongPostings matches = new LongPostings();
+        for (int tagId = 0; tagId < tagTexts.size(); tagId++) {
+            if (tagTexts.get(tagId).contains(normalized) && !postings.get(tagId).isEmpty()) {
+                matches = LongPostings.or(matches, postings.get(tagId));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 스터디가 하나 이상 있는 태그별 스터디 수. 스터디 수가 아니라 서로 다른 태그 수만큼 훑는다.
+     */
+    public Map<String, Long> counts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (int tagId = 0; tagId < tagTexts.size(); tagId++) {
+            if (!postings.get(tagId).isEmpty()) {
+                counts.put(tagTexts.get(tagId), (long) postings.get(tagId).size());
+            }
+        }
+        return counts;
+    }
+
+    public int size() {
+        return tagTexts.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.study.codingswamp.domain.study.search.tokenizer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 단어의 접두어를 색인한다. 공백으로 단어가 구분되는 텍스트의 접두어 검색에 적합하다.
+ */
+public class EdgeNGramTokenizer implements Tokenizer {
+
+    private static final int MAX_PREFIX_LENGTH = 20;
+
+    @Override
+    public Set<String> indexTerms(String word) {
+        Set<String> terms = new HashSet<>();
+        for (int length = 1; length <= Math.min(word.length(), MAX_PREFIX_LENGTH); length++) {
+            terms.add(word.substring(0, length));
+        }
+        return terms;
+    }
+
+    @Override
+    public List<String> queryTerms(String word) {
+        if (word.length() > MAX_PREFIX_LENGTH) {
+            return List.of(word.substring(0, MAX_PREFIX_LENGTH));
+        }
+        return List.of(word);
+    }
+
+    @Override
+    public boolean matches(String word, String queryWord) {
+        return word.startsWith(queryWord);
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.codingswamp.domain.study.search.tokenizer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 단어의 문자 uni/bi/tri-gram 을 색인한다.
+ * "모각코" 처럼 띄어쓰기 없이 붙어있는 한글 단어도 단어 중간의 부분 문자열로 검색할 수 있다.
+ * 세 글자 이하의 검색어는 term 하나로 확정되고, 더 긴 검색어는 tri-gram 교집합 후 후보를 검증한다.
+ */
+public class NGramTokenizer implements Tokenizer {
+
+    private static final int MAX_GRAM = 3;
+
+    @Override
+    public Set<String> indexTerms(String word) {
+        Set<String> terms = new HashSet<>();
+        for (int gram = 1; gram <= MAX_GRAM; gram++) {
+            for (int start = 0; start + gram <= word.length(); start++) {
+                terms.add(word.substring(start, start + gram));
+            }
+        }
+        return terms;
+    }
+
+    @Override
+    public List<String> queryTerms(String word) {
+        if (word.length() <= MAX_GRAM) {
+            return List.of(word);
+        }
+        List<String> terms = new ArrayList<>();
+        for (int start = 0; start + MAX_GRAM <= word.length(); start++) {
+            terms.add(word.substring(start, start + MAX_GRAM));
+        }
+        return terms;
+    }
+
+    @Override
+    public boolean matches(String word, String queryWord) {
+        return word.contains(queryWord);
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.codingswamp.domain.study.search.tokenizer;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색 인덱스가 단어를 어떤 term 으로 색인하고 조회할지 결정한다.
+ * 인덱스는 텍스트를 단어로 나눈 뒤 단어 단위로 tokenizer 를 호출한다.
+ */
+public interface Tokenizer {
+
+    /**
+     * 색인할 단어 하나로부터 posting 에 기록할 term 들을 만든다.
+     */
+    Set<String> indexTerms(String word);
+
+    /**
+     * 검색어 단어 하나가 매칭되기 위해 모두 존재해야 하는 term 들을 만든다.
+     */
+    List<String> queryTerms(String word);
+
+    /**
+     * term 교집합만으로 확정할 수 없는 후보를 검증할 때 사용한다.
+     */
+    boolean matches(String word, String queryWord);
+}
@@ -9,6 +9,7 @@ import com.study.codingswamp.domain.study.dto.response.ParticipantResponse;
 import com.study.codingswamp.domain.study.dto.response.ReviewResponse;
 import com.study.codingswamp.domain.study.entity.Review;
 import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.repository.ParticipantRepository;
 import com.study.codingswamp.domain.study.repository.ReviewRepository;
 import com.study.codingswamp.domain.study.repository.StudyRepository;
 import com.study.codingswamp.exception.NotFoundException;
@@ -28,20 +29,21 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final StudyRepository studyRepository;
     private final ReviewRepository reviewRepository;
+    private final ParticipantRepository participantRepository;
 
     @Transactional
     public void register(Long memberId, Long studyId, ReviewRequest request) {
         Study findStudy = findStudy(studyId);
         Member member = findMember(memberId);
-        findStudy.isParticipant(member);
+        validateParticipant(studyId, memberId);
         Review review = new Review(request.getContent(), member, findStudy);
         reviewRepository.save(review);
     }
 
     public PageCursor<ReviewResponse> getReviews(Long memberId, Long studyId, CursorRequest cursorRequest) {
         Member member = findMember(memberId);
-        Study study = findStudy(studyId);
-        study.isParticipant(member);
+        validateStudyExists(studyId);
+        validateParticipant(studyId, member.getId());
 
         List<Review> reviews = reviewRepository.findAllByLessThanIdAndStudyId(cursorRequest, studyId);
 
@@ -75,6 +77,12 @@ public class ReviewService {
         reviewRepository.delete(review);
     }
 
+    private void validateParticipant(Long studyId, Long memberId) {
+        if (!participantRepository.existsByStudyIdAndMemberId(studyId, memberId)) {
+            throw new NotFoundException("participant", "참가자가 아닙니다.");
+        }
+    }
+
     private void validateReviewWriter(Long memberId, Review review) {
         if (review.getMember() != findMember(memberId)) {
             throw new UnauthorizedException();
@@ -88,9 +96,16 @@ public class ReviewService {
 
     private Study findStudy(Long studyId) {
         return studyRepository.findById(studyId)
+                .filter(study -> !study.isDeleting())
                 .orElseThrow(() -> new NotFoundException("studyId", "스터디를 찾을 수 없습니다."));
     }
 
+    private void validateStudyExists(Long studyId) {
+        if (!studyRepository.existsByIdAndDeletingFalse(studyId)) {
+            throw new NotFoundException("studyId", "스터디를 찾을 수 없습니다.");
+        }
+    }
+
     private Review findReview(Long reviewId) {
         return reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new NotFoundException("review", "리뷰를 찾을 수 없습니다."));
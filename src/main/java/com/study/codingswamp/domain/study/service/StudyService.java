@@ -1,8 +1,13 @@
 package com.study.codingswamp.domain.study.service;
 
+import com.study.codingswamp.domain.member.cache.MemberFragmentCache;
 import com.study.codingswamp.domain.member.entity.Member;
 import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.cache.StudyDetailCache;
+import com.study.codingswamp.domain.study.dto.request.ApplicantDecisionRequest;
 import com.study.codingswamp.domain.study.dto.request.ApplyRequest;
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.dto.request.FieldSelection;
 import com.study.codingswamp.domain.study.dto.request.SearchCondition;
 import com.study.codingswamp.domain.study.dto.request.StudiesPageableRequest;
 import com.study.codingswamp.domain.study.dto.request.StudyRequest;
@@ -11,26 +16,59 @@ import com.study.codingswamp.domain.study.entity.*;
 import com.study.codingswamp.domain.study.repository.ApplicantRepository;
 import com.study.codingswamp.domain.study.repository.ParticipantRepository;
 import com.study.codingswamp.domain.study.repository.ReviewRepository;
+import com.study.codingswamp.domain.study.repository.StudyCardJdbcRepository;
+import com.study.codingswamp.domain.study.repository.StudyCardRepository;
 import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.domain.study.repository.WaitingApplicantRepository;
+import com.study.codingswamp.domain.study.search.StudySearchIndex;
+import com.study.codingswamp.domain.study.search.StudySearchIndexUpdater;
+import com.study.codingswamp.domain.study.search.StudySearchResult;
+import com.study.codingswamp.exception.ConflictException;
 import com.study.codingswamp.exception.NotFoundException;
+import com.study.codingswamp.exception.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Slf4j
 public class StudyService {
 
+    private static final int AUTOCOMPLETE_SIZE = 10;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+
     private final StudyRepository studyRepository;
     private final MemberRepository memberRepository;
     private final ApplicantRepository applicantRepository;
     private final ParticipantRepository participantRepository;
+    private final WaitingApplicantRepository waitingApplicantRepository;
     private final ReviewRepository reviewRepository;
+    private final StudyCardRepository studyCardRepository;
+    private final StudySearchIndex studySearchIndex;
+    private final StudySearchIndexUpdater studySearchIndexUpdater;
+    private final StudyDetailCache studyDetailCache;
+    private final MemberFragmentCache memberFragmentCache;
+    private final StudyCardJdbcRepository studyCardJdbcRepository;
+
+    @Value("${app.study.deletion.bulk-threshold:1000}")
+    private int bulkDeleteThreshold;
 
     @Transactional
     public Study createStudy(Long memberId, StudyRequest request) {
@@ -43,29 +81,155 @@ public class StudyService {
     }
 
     public StudyDetailResponse getStudyDetails(Long studyId) {
-        Study study = findStudy(studyId);
+        return studyDetailCache.get(studyId, this::loadStudyDetails);
+    }
+
+    /**
+     * 엔티티를 읽지 않고 버전만으로 상세 응답의 ETag 를 만든다. 응답을 읽기 전에 구해야 이후 변경을 놓치지 않는다.
+     * 삭제되었거나 없는 스터디도 버전은 기본값으로 남으므로, 이전 ETag 로 304 를 받지 않도록 기본 키로 존재만 확인한다.
+     */
+    public String getStudyDetailETag(Long studyId) {
+        String eTag = studyDetailCache.getVersionTag(studyId);
+        validateStudyExists(studyId);
+        return eTag;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getStudiesETag() {
+        return studyDetailCache.getGlobalVersionTag();
+    }
+
+    /**
+     * 요청한 필드만 조회한다. 스칼라 값과 태그는 study_card 한 행에서 읽고,
+     * description LOB 과 owner, 인원 수, 참가자와 신청자 목록은 요청한 경우에만 각각 조회한다.
+     * 카드의 태그가 컬럼 길이에 맞춰 잘려 있으면 태그만 study_tag 에서 다시 읽는다.
+     */
+    public StudyDetailResponse getStudyDetails(Long studyId, FieldSelection fieldSelection) {
+        if (fieldSelection.isAll()) {
+            return getStudyDetails(studyId);
+        }
+        StudyCard studyCard = studyCardRepository.findById(studyId)
+                .orElseThrow(() -> new NotFoundException("studyId", "스터디를 찾을 수 없습니다."));
+        String description = fieldSelection.includes("description")
+                ? studyRepository.findDescription(studyId)
+                : null;
+        OwnerResponse owner = fieldSelection.includes("owner")
+                ? getOwnerResponse(studyId)
+                : null;
+        Long participantCount = fieldSelection.includes("participantCount")
+                ? participantRepository.countByStudyId(studyId)
+                : null;
+        Long applicantCount = fieldSelection.includes("applicantCount")
+                ? applicantRepository.countByStudyId(studyId)
+                : null;
+        List<ParticipantResponse> participants = fieldSelection.includes("participants")
+                ? getParticipationResponses(participantRepository.findParticipants(studyId))
+                : null;
+        List<ApplicantResponse> applicants = fieldSelection.includes("applicants")
+                ? getApplicantResponse(applicantRepository.findApplicants(studyId))
+                : null;
+        List<String> tags = fieldSelection.includes("tags") && studyCard.isTagsTruncated()
+                ? studyRepository.findTagTextsByStudyIds(List.of(studyId)).getOrDefault(studyId, new ArrayList<>())
+                : studyCard.getTagTexts();
+        return new StudyDetailResponse(studyCard, description, owner, participantCount, applicantCount,
+                participants, applicants, tags);
+    }
+
+    /**
+     * 참가자와 신청자 목록 없이 인원 수만 담아 반환한다. 인원이 많아도 쿼리 수와 응답 크기가 일정하다.
+     */
+    public StudyDetailResponse getStudySummary(Long studyId) {
+        Study study = studyRepository.findStudySummary(studyId)
+                .orElseThrow(() -> new NotFoundException("studyId", "스터디를 찾을 수 없습니다."));
         Member owner = study.getOwner();
+        LocalDate ownerParticipationDate = participantRepository.findByStudyIdAndMemberId(studyId, owner.getId())
+                .map(Participant::getParticipationDate)
+                .orElseThrow(() -> new NotFoundException("participant", "owner에 해당되는 참가자가 없습니다."));
         return StudyDetailResponse.builder()
                 .study(study)
-                .owner(new OwnerResponse(study, owner))
-                .participants(getParticipationResponses(study))
-                .applicants(getApplicantResponse(study))
+                .owner(new OwnerResponse(owner, ownerParticipationDate, memberFragmentCache.get(owner)))
+                .participantCount(participantRepository.countByStudyId(studyId))
+                .applicantCount(applicantRepository.countByStudyId(studyId))
                 .tags(getTags(study.getTags()))
                 .build();
     }
 
+    public PageCursor<ParticipantResponse> getParticipants(Long studyId, CursorRequest request) {
+        validateStudyExists(studyId);
+        List<Participant> participants = participantRepository.findParticipants(studyId, request);
+
+        Long nextKey = participants.stream()
+                .mapToLong(Participant::getId)
+                .min().orElse(CursorRequest.NONE_KEY);
+
+        List<ParticipantResponse> participantResponses = participants.stream()
+                .map(this::toParticipantResponse)
+                .collect(Collectors.toList());
+        return new PageCursor<>(request.next(nextKey), participantResponses);
+    }
+
+    public PageCursor<ApplicantResponse> getApplicants(Long studyId, CursorRequest request) {
+        validateStudyExists(studyId);
+        List<Applicant> applicants = applicantRepository.findApplicants(studyId, request);
+
+        Long nextKey = applicants.stream()
+                .mapToLong(Applicant::getId)
+                .min().orElse(CursorRequest.NONE_KEY);
+
+        List<ApplicantResponse> applicantResponses = applicants.stream()
+                .map(applicant -> new ApplicantResponse(applicant.getMember(), applicant.getReasonForApplication(), applicant.getApplicantDate()))
+                .collect(Collectors.toList());
+        return new PageCursor<>(request.next(nextKey), applicantResponses);
+    }
+
+    private StudyDetailResponse loadStudyDetails(Long studyId) {
+        Study study = studyRepository.findStudyDetail(studyId)
+                .filter(findStudy -> !findStudy.isDeleting())
+                .orElseThrow(() -> new NotFoundException("studyId", "스터디를 찾을 수 없습니다."));
+        Member owner = study.getOwner();
+        List<ParticipantResponse> participants = study.getParticipants().stream()
+                .map(this::toParticipantResponse)
+                .collect(Collectors.toList());
+        List<ApplicantResponse> applicants = getApplicantResponse(study.getApplicants());
+        OwnerResponse ownerResponse = participants.stream()
+                .filter(participant -> participant.getMemberId().equals(owner.getId()))
+                .findAny()
+                .map(participant -> new OwnerResponse(owner, participant.getParticipationDate(), memberFragmentCache.get(owner)))
+                .orElseThrow(() -> new NotFoundException("participant", "owner에 해당되는 참가자가 없습니다."));
+        return StudyDetailResponse.builder()
+                .study(study)
+                .owner(ownerResponse)
+                .participantCount((long) participants.size())
+                .applicantCount((long) applicants.size())
+                .participants(participants)
+                .applicants(applicants)
+                .tags(getTags(study.getTags()))
+                .build();
+    }
+
+    /**
+     * 정원이 찼으면 대기자 명단에 올리고 true 를 반환한다. 자리가 남아 있으면 대기자가 있어도 신청자로 받는다.
+     * 대기자는 자리가 날 때 그 수만큼만 신청자로 옮겨지므로, 남은 대기자는 다음에 자리가 날 때까지 기다린다.
+     */
     @Transactional
-    public void apply(Long memberId, Long studyId, ApplyRequest applyRequest) {
+    public boolean apply(Long memberId, Long studyId, ApplyRequest applyRequest) {
         Member applicantMember = findMember(memberId);
         Study findStudy = findStudy(studyId);
 
-        findStudy.validateStudyMaxMember();
-        findStudy.checkParticipant(applicantMember);
-        findStudy.checkApplicant(applicantMember);
+        checkParticipant(findStudy, applicantMember);
+        checkApplicant(findStudy, applicantMember);
 
+        if (findStudy.isFull()) {
+            waitingApplicantRepository.save(new WaitingApplicant(
+                    findStudy, applicantMember, applyRequest.getReasonForApplication(), LocalDate.now()));
+            studyDetailCache.invalidate(studyId);
+            return true;
+        }
         Applicant applicant = new Applicant(findStudy, applicantMember, applyRequest.getReasonForApplication(), LocalDate.now());
         applicantRepository.save(applicant);
         findStudy.addApplicant(applicant);
+        studyDetailCache.invalidate(studyId);
+        return false;
     }
 
     @Transactional
@@ -73,50 +237,116 @@ public class StudyService {
         Member owner = findMember(memberId);
         Study findStudy = findStudy(studyId);
         findStudy.validateOwner(owner);
-        findStudy.validateStudyMaxMember();
         Member applicantMember = findMember(applicantId);
-        findStudy.checkParticipant(applicantMember);
+        checkParticipant(findStudy, applicantMember);
+        Applicant applicant = findApplicant(findStudy, applicantMember);
+        int currentMemberCount = admit(studyId, 1);
 
         Participant participant = new Participant(findStudy, applicantMember, LocalDate.now());
-        Applicant applicant = findStudy.addParticipant(participant);
+        findStudy.admitParticipant(participant, applicant, currentMemberCount);
         participantRepository.save(participant);
         applicantRepository.delete(applicant);
+        studyDetailCache.invalidate(studyId);
     }
 
-    public StudiesResponse getStudies(StudiesPageableRequest request) {
-        List<StudyResponse> studyResponses = studyRepository.getStudies(request)
-                .stream()
-                .map(study -> new StudyResponse(study, getTags(study.getTags())))
+    /**
+     * 여러 신청자를 한 트랜잭션에서 승인, 거절한다.
+     * 정원 확인과 인원 증가는 조건부 UPDATE 한 번, 참가자 추가는 배치 INSERT, 신청자 삭제는 DELETE 한 번으로 처리한다.
+     */
+    @Transactional
+    public void decideApplicants(Long memberId, Long studyId, ApplicantDecisionRequest request) {
+        request.validate();
+        Member owner = findMember(memberId);
+        Study findStudy = findStudy(studyId);
+        findStudy.validateOwner(owner);
+
+        List<Long> decidedMemberIds = request.collectDecidedMemberIds();
+        List<Applicant> applicants = applicantRepository.findByStudyIdAndMemberIdIn(studyId, decidedMemberIds);
+        if (applicants.size() != decidedMemberIds.size()) {
+            throw new NotFoundException("member", "신청자에 없습니다.");
+        }
+
+        Set<Long> approvedMemberIds = new HashSet<>(request.getApprovedMemberIds());
+        List<Participant> participants = applicants.stream()
+                .filter(applicant -> approvedMemberIds.contains(applicant.getMember().getId()))
+                .map(applicant -> new Participant(findStudy, applicant.getMember(), LocalDate.now()))
                 .collect(Collectors.toList());
-        Long totalCount = studyRepository.getCount();
+        if (!participants.isEmpty()) {
+            if (participantRepository.existsByStudyIdAndMemberIdIn(studyId, approvedMemberIds)) {
+                throw new ConflictException("participant", "이미 참가한 인원입니다.");
+            }
+            int currentMemberCount = admit(studyId, participants.size());
+            participantRepository.saveAll(participants);
+            findStudy.admitParticipants(participants, currentMemberCount);
+        }
+
+        applicants.forEach(findStudy::removeApplicant);
+        applicantRepository.deleteAllByIdInBatch(applicants.stream()
+                .map(Applicant::getId)
+                .collect(Collectors.toList()));
+        studyDetailCache.invalidate(studyId);
+    }
+
+    public StudiesResponse getStudies(StudiesPageableRequest request) {
+        List<StudyResponse> studyResponses = getStudyCardResponses(studyCardRepository.getStudyCards(request));
+        Long totalCount = studySearchIndex.isReady() ? studySearchIndex.count() : studyRepository.getCount();
 
         return new StudiesResponse(studyResponses, request.getTotalPage(totalCount));
     }
 
+    public PageCursor<StudyResponse> getStudies(CursorRequest request) {
+        List<StudyCard> studyCards = studyCardRepository.getStudyCards(request);
+
+        Long nextKey = studyCards.stream()
+                .mapToLong(StudyCard::getId)
+                .min().orElse(CursorRequest.NONE_KEY);
+
+        return new PageCursor<>(request.next(nextKey), getStudyCardResponses(studyCards));
+    }
+
+    /**
+     * 검색 색인이 준비되기 전에는 DB 로 검색한다. 이때 facet 은 비워 두고, approximateCount 여도 정확한 개수를 센다.
+     * 관련도순 정렬은 색인 없이 흉내 낼 수 없으므로 최신순으로 바꾸지 않고 503 으로 거절한다.
+     */
     public StudiesResponse getSearchStudies(SearchCondition condition) {
-        List<StudyResponse> studyResponses = studyRepository.getSearchStudies(condition)
-                .stream()
-                .map(study -> new StudyResponse(study, getTags(study.getTags())))
-                .collect(Collectors.toList());
-        Long totalCount = studyRepository.getCount(condition);
-        return new StudiesResponse(studyResponses, condition.getTotalPage(totalCount));
+        if (!studySearchIndex.isReady()) {
+            if (condition.sortByRelevance()) {
+                throw new ServiceUnavailableException("sort", "검색 색인을 준비하는 중에는 관련도순으로 정렬할 수 없습니다.");
+            }
+            List<StudyResponse> studyResponses = getStudyResponses(studyRepository.getSearchStudies(condition));
+            Long totalCount = studyRepository.getCount(condition);
+            return new StudiesResponse(studyResponses, condition.getTotalPage(totalCount), FacetsResponse.empty());
+        }
+
+        StudySearchResult result = studySearchIndex.search(condition);
+        List<StudyResponse> studyResponses = getStudyCardResponses(findStudyCardsInOrder(result.getStudyIds()));
+        return new StudiesResponse(studyResponses, condition.getTotalPage(result.getTotalCount()), result.getFacets());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AutocompleteResponse autocomplete(String keyword, Integer size) {
+        int validatedSize = size == null ? AUTOCOMPLETE_SIZE : Math.max(1, Math.min(size, MAX_AUTOCOMPLETE_SIZE));
+        if (!studySearchIndex.isReady()) {
+            return new AutocompleteResponse(new ArrayList<>(), new ArrayList<>());
+        }
+        return studySearchIndex.autocomplete(keyword, validatedSize);
     }
 
     public StudiesResponse getMyApplies(Long memberId) {
         Member member = findMember(memberId);
-        List<StudyResponse> studyResponses = studyRepository.findMyApplies(member)
-                .stream()
-                .map(study -> new StudyResponse(study, getTags(study.getTags())))
-                .collect(Collectors.toList());
+        List<StudyResponse> studyResponses = getStudyResponses(studyRepository.findMyApplies(member));
+        return new StudiesResponse(studyResponses, 1);
+    }
+
+    public StudiesResponse getMyWaitings(Long memberId) {
+        Member member = findMember(memberId);
+        List<StudyResponse> studyResponses = getStudyResponses(studyRepository.findMyWaitings(member));
         return new StudiesResponse(studyResponses, 1);
     }
 
     public StudiesResponse getMyParticipates(Long memberId) {
         Member member = findMember(memberId);
-        List<StudyResponse> studyResponses = studyRepository.findMyParticipates(member)
-                .stream()
-                .map(study -> new StudyResponse(study, getTags(study.getTags())))
-                .collect(Collectors.toList());
+        List<StudyResponse> studyResponses = getStudyResponses(studyRepository.findMyParticipates(member));
         return new StudiesResponse(studyResponses, 1);
     }
 
@@ -125,26 +355,100 @@ public class StudyService {
         Study findStudy = findStudy(studyId);
         Member owner = findMember(memberId);
         findStudy.validateOwner(owner);
-        findStudy.update(request);
+        findStudy.update(request, changeMaxMemberCount(studyId, request.getMaxMemberCount()));
+        moveWaitingApplicantsToApplicants(findStudy);
+        studyDetailCache.invalidate(studyId);
     }
 
+    /**
+     * 참가자, 신청자, 리뷰를 study_id 조건의 DELETE 한 번씩으로 지운다. 태그는 스터디와 함께 컬렉션 단위로 지워진다.
+     * 하위 행이 bulkDeleteThreshold 를 넘으면 한 트랜잭션에서 지우지 않고 삭제 대기로 표시한 뒤
+     * {@link com.study.codingswamp.domain.study.schedule.StudyDeletionWorker} 가 나눠 지우게 한다.
+     */
     @Transactional
     public void delete(Long memberId, Long studyId) {
         Study findStudy = findStudy(studyId);
         Member owner = findMember(memberId);
         findStudy.validateOwner(owner);
-        participantRepository.deleteAll(findStudy.getParticipants());
-        applicantRepository.deleteAll(findStudy.getApplicants());
+        remove(findStudy);
+        studyDetailCache.invalidate(studyId);
+    }
+
+    /**
+     * 탈퇴한 스터디장의 스터디를 가장 먼저 참가한 다른 참가자에게 넘긴다. 넘겨받을 참가자가 없으면 스터디를 삭제한다.
+     * 스터디장이었던 회원의 참가 기록은 호출한 쪽에서 정리한다.
+     */
+    @Transactional
+    public void handOverOrClose(Long studyId) {
+        Study findStudy = findStudy(studyId);
+        Optional<Participant> successor = participantRepository.findSuccessor(studyId, findStudy.getOwner().getId());
+        if (successor.isPresent()) {
+            findStudy.changeOwner(successor.get().getMember());
+        } else {
+            remove(findStudy);
+        }
+        studyDetailCache.invalidate(studyId);
+    }
+
+    /**
+     * 삭제 대기 중인 스터디의 하위 행을 chunkSize 개까지 지운다. 남은 하위 행이 없으면 스터디를 지우고 true 를 반환한다.
+     * 한 번에 짧은 트랜잭션 하나만 쓰므로 큰 스터디도 행 잠금을 오래 잡지 않는다.
+     */
+    @Transactional
+    public boolean deleteChunk(Long studyId, int chunkSize) {
+        List<Long> participantIds = participantRepository.findIdsByStudyId(studyId, chunkSize);
+        if (!participantIds.isEmpty()) {
+            participantRepository.deleteAllByIdInBatch(participantIds);
+            return false;
+        }
+        List<Long> applicantIds = applicantRepository.findIdsByStudyId(studyId, chunkSize);
+        if (!applicantIds.isEmpty()) {
+            applicantRepository.deleteAllByIdInBatch(applicantIds);
+            return false;
+        }
+        List<Long> waitingApplicantIds = waitingApplicantRepository.findIdsByStudyId(studyId, chunkSize);
+        if (!waitingApplicantIds.isEmpty()) {
+            waitingApplicantRepository.deleteAllByIdInBatch(waitingApplicantIds);
+            return false;
+        }
+        List<Long> reviewIds = reviewRepository.findIdsByStudyId(studyId, chunkSize);
+        if (!reviewIds.isEmpty()) {
+            reviewRepository.deleteAllByIdInBatch(reviewIds);
+            return false;
+        }
+        studyRepository.findById(studyId).ifPresent(studyRepository::delete);
+        return true;
+    }
+
+    private void remove(Study findStudy) {
+        Long studyId = findStudy.getId();
+        if (countChildRows(studyId) > bulkDeleteThreshold) {
+            studyRepository.markDeleting(studyId);
+            studyCardJdbcRepository.deleteById(studyId);
+            studySearchIndexUpdater.changed(studyId);
+            return;
+        }
+        participantRepository.deleteByStudyId(studyId);
+        applicantRepository.deleteByStudyId(studyId);
+        waitingApplicantRepository.deleteByStudyId(studyId);
         reviewRepository.deleteByStudyId(studyId);
         studyRepository.delete(findStudy);
     }
 
+    private long countChildRows(Long studyId) {
+        return participantRepository.countByStudyId(studyId)
+                + applicantRepository.countByStudyId(studyId)
+                + waitingApplicantRepository.countByStudyId(studyId)
+                + reviewRepository.countByStudyId(studyId);
+    }
+
     @Transactional
     public void withdraw(Long memberId, Long studyId) {
         Study findStudy = findStudy(studyId);
         Member member = findMember(memberId);
-        Participant participant = findStudy.withDrawParticipant(member);
-        participantRepository.delete(participant);
+        findStudy.validateWithdrawal(member);
+        Participant participant = findParticipant(findStudy, member);
+        vacate(findStudy, participant);
     }
 
     @Transactional
@@ -154,8 +458,16 @@ public class StudyService {
         findStudy.validateOwner(owner);
 
         Member participantMember = findMember(participantMemberId);
-        Participant participant = findStudy.kickParticipant(participantMember);
-        participantRepository.delete(participant);
+        Participant participant = findParticipant(findStudy, participantMember);
+        vacate(findStudy, participant);
+    }
+
+    /**
+     * 스터디장이 아닌 경로(회원 정리 등)에서 참가자를 내보낼 때 쓴다.
+     */
+    @Transactional
+    public void leave(Participant participant) {
+        vacate(participant.getStudy(), participant);
     }
 
     @Transactional
@@ -163,29 +475,235 @@ public class StudyService {
         Study findStudy = findStudy(studyId);
         Member applicantMember = findMember(memberId);
 
-        Applicant applicant = findStudy.removeApplicant(applicantMember);
-        applicantRepository.delete(applicant);
+        Optional<WaitingApplicant> waitingApplicant = waitingApplicantRepository.findByStudyIdAndMemberId(studyId, memberId);
+        if (waitingApplicant.isPresent()) {
+            waitingApplicantRepository.delete(waitingApplicant.get());
+        } else {
+            Applicant applicant = findApplicant(findStudy, applicantMember);
+            findStudy.removeApplicant(applicant);
+            applicantRepository.delete(applicant);
+        }
+        studyDetailCache.invalidate(studyId);
+    }
+
+    /**
+     * 참가자를 내보내고 인원 수를 DB 에서 줄인다. 실제로 한 자리가 줄었을 때만 같은 트랜잭션에서 대기자를 신청자로 옮긴다.
+     * 인원 수가 이미 0 이면 어긋난 값이므로 대기자를 옮기지 않고 재계산 작업이 바로잡게 둔다.
+     * 참가자가 바뀌는 모든 경로가 인원 수 UPDATE 로 스터디 행 잠금을 먼저 잡으므로 재계산 작업과 엇갈리지 않는다.
+     */
+    private void vacate(Study study, Participant participant) {
+        Long studyId = study.getId();
+        boolean seatFreed = studyRepository.decreaseCurrentMemberCount(studyId) > 0;
+        participantRepository.delete(participant);
+        study.leaveParticipant(participant, refreshCurrentMemberCount(studyId));
+        if (seatFreed) {
+            moveWaitingApplicantsToApplicants(study);
+        } else {
+            log.warn("Member count was already zero when a participant left studyId={}", studyId);
+        }
+        studyDetailCache.invalidate(studyId);
+    }
+
+    /**
+     * 빈 자리 수만큼 대기 순서대로 대기자를 신청자로 옮긴다. 참가 여부는 다른 신청자처럼 스터디장이 승인해서 정한다.
+     * 옮겨진 신청자는 새 id 를 받으므로 먼저 기다리던 신청자 뒤에 선다. 자리를 잡지 않으므로 인원 수는 바뀌지 않는다.
+     * 호출 전에 인원 수나 정원 UPDATE 로 스터디 행 잠금을 잡아 두어야 빈 자리 수가 어긋나지 않는다.
+     */
+    private void moveWaitingApplicantsToApplicants(Study study) {
+        Long studyId = study.getId();
+        int vacancy = study.getMaxMemberCount() - study.getCurrentMemberCount();
+        for (int i = 0; i < vacancy; i++) {
+            Optional<WaitingApplicant> waitingApplicant = waitingApplicantRepository.findFirstByStudyIdOrderByIdAsc(studyId);
+            if (waitingApplicant.isEmpty()) {
+                break;
+            }
+            Applicant applicant = new Applicant(study, waitingApplicant.get().getMember(),
+                    waitingApplicant.get().getReasonForApplication(), LocalDate.now());
+            waitingApplicantRepository.delete(waitingApplicant.get());
+            applicantRepository.save(applicant);
+            study.addApplicant(applicant);
+        }
+    }
+
+    /**
+     * id 가 afterStudyId 보다 큰 스터디 batchSize 개의 인원 수를 참가자 수와 비교해 어긋난 것만 고친다.
+     * 참가자 수는 묶음마다 GROUP BY 한 번으로 세고, 목록 카드에 남은 값도 함께 비교한다.
+     * 마지막으로 확인한 스터디 id 를 반환하며, 더 확인할 스터디가 없으면 null 을 반환한다.
+     */
+    @Transactional
+    public Long reconcileMemberCounts(Long afterStudyId, int batchSize) {
+        Map<Long, Integer> storedCounts = studyRepository.findCurrentMemberCounts(afterStudyId, batchSize);
+        if (storedCounts.isEmpty()) {
+            return null;
+        }
+        List<Long> studyIds = new ArrayList<>(storedCounts.keySet());
+        Map<Long, Long> participantCounts = participantRepository.countByStudyIds(studyIds);
+        Map<Long, Integer> cardCounts = studyCardRepository.findCurrentMemberCounts(studyIds);
+        for (Long studyId : studyIds) {
+            long participantCount = participantCounts.getOrDefault(studyId, 0L);
+            if (storedCounts.get(studyId) != participantCount || !Objects.equals(cardCounts.get(studyId), (int) participantCount)) {
+                repairMemberCount(studyId);
+            }
+        }
+        return studyIds.get(studyIds.size() - 1);
+    }
+
+    /**
+     * 스터디 행을 잠근 뒤 다시 세어 고친다. 인원 수가 바뀌면 엔티티 리스너가 검색 인덱스와 상세 캐시를 갱신하고,
+     * 카드의 인원 수는 리스너가 쓰지 않으므로 여기서 함께 쓰고, 카드 행이 없으면 새로 만든다.
+     */
+    private void repairMemberCount(Long studyId) {
+        Optional<Study> lockedStudy = studyRepository.findWithLockById(studyId);
+        if (lockedStudy.isEmpty() || lockedStudy.get().isDeleting()) {
+            return;
+        }
+        Study study = lockedStudy.get();
+        int participantCount = (int) participantRepository.countByStudyId(studyId);
+        if (study.getCurrentMemberCount() != participantCount) {
+            log.warn("Repair member count drift studyId={} stored={} actual={}",
+                    studyId, study.getCurrentMemberCount(), participantCount);
+            study.reconcileCurrentMemberCount(participantCount);
+        }
+        if (studyCardJdbcRepository.updateCurrentMemberCount(studyId, participantCount) == 0) {
+            log.warn("Restore missing study card studyId={}", studyId);
+            studyCardJdbcRepository.insert(study, getTags(study.getTags()));
+        }
+    }
+
+    /**
+     * 참가자, 신청자 확인은 컬렉션을 이미 읽은 경우 메모리에서, 아니라면 (study_id, member_id) 유니크 인덱스로 한 행만 조회한다.
+     */
+    private void checkParticipant(Study study, Member member) {
+        boolean participated = study.isParticipantsLoaded()
+                ? study.hasParticipant(member)
+                : participantRepository.existsByStudyIdAndMemberId(study.getId(), member.getId());
+        if (participated) {
+            throw new ConflictException("participant", "이미 참가한 인원입니다.");
+        }
+    }
+
+    private void checkApplicant(Study study, Member member) {
+        boolean applied = study.isApplicantsLoaded()
+                ? study.hasApplicant(member)
+                : applicantRepository.existsByStudyIdAndMemberId(study.getId(), member.getId());
+        if (applied || waitingApplicantRepository.existsByStudyIdAndMemberId(study.getId(), member.getId())) {
+            throw new ConflictException("applicant", "이미 신청한 사용자입니다.");
+        }
+    }
+
+    private Participant findParticipant(Study study, Member member) {
+        Optional<Participant> participant = study.isParticipantsLoaded()
+                ? study.findParticipant(member)
+                : participantRepository.findByStudyIdAndMemberId(study.getId(), member.getId());
+        return participant.orElseThrow(() -> new NotFoundException("participant", "참가자가 아닙니다."));
+    }
+
+    private Applicant findApplicant(Study study, Member member) {
+        Optional<Applicant> applicant = study.isApplicantsLoaded()
+                ? study.findApplicant(member)
+                : applicantRepository.findByStudyIdAndMemberId(study.getId(), member.getId());
+        return applicant.orElseThrow(() -> new NotFoundException("member", "신청자에 없습니다."));
+    }
+
+    /**
+     * 조건부 UPDATE 로 자리를 count 개 확보하고 증가한 인원 수를 반환한다.
+     */
+    private int admit(Long studyId, int count) {
+        if (studyRepository.increaseCurrentMemberCount(studyId, count) == 0) {
+            throw new ConflictException("study", "최대 정원인 스터디입니다.");
+        }
+        return refreshCurrentMemberCount(studyId);
+    }
+
+    /**
+     * 현재 인원 수가 새 정원 이하일 때만 정원을 바꾸고 인원 수를 반환한다.
+     * 엔티티가 읽어 둔 인원 수로 비교하면 그 사이 커밋된 승인을 놓쳐 인원이 정원을 넘을 수 있다.
+     */
+    private int changeMaxMemberCount(Long studyId, int maxMemberCount) {
+        if (studyRepository.updateMaxMemberCount(studyId, maxMemberCount) == 0) {
+            throw new ConflictException("maxMemberCount", "현재 인원이 정원보다 많습니다.");
+        }
+        return refreshCurrentMemberCount(studyId);
+    }
+
+    /**
+     * 인원 수나 정원을 조건부 UPDATE 로 바꾼 뒤 호출한다. UPDATE 가 행 잠금을 잡고 있으므로 읽은 인원 수는 커밋할 때까지 바뀌지 않는다.
+     * 목록 카드의 인원 수는 엔티티 리스너가 아니라 여기서 이 값으로만 쓴다.
+     */
+    private int refreshCurrentMemberCount(Long studyId) {
+        int currentMemberCount = studyRepository.findCurrentMemberCount(studyId);
+        studyCardJdbcRepository.updateCurrentMemberCount(studyId, currentMemberCount);
+        return currentMemberCount;
+    }
+
+    private void validateStudyExists(Long studyId) {
+        if (!studyRepository.existsByIdAndDeletingFalse(studyId)) {
+            throw new NotFoundException("studyId", "스터디를 찾을 수 없습니다.");
+        }
     }
 
     private Study findStudy(Long studyId) {
         return studyRepository.findById(studyId)
+                .filter(study -> !study.isDeleting())
                 .orElseThrow(() -> new NotFoundException("studyId", "스터디를 찾을 수 없습니다."));
     }
 
-    private List<ParticipantResponse> getParticipationResponses(Study study) {
-        return study.getParticipants()
-                .stream()
+    private OwnerResponse getOwnerResponse(Long studyId) {
+        Participant owner = participantRepository.findOwnerParticipant(studyId)
+                .orElseThrow(() -> new NotFoundException("participant", "owner에 해당되는 참가자가 없습니다."));
+        return new OwnerResponse(owner.getMember(), owner.getParticipationDate());
+    }
+
+    /**
+     * 필드를 골라 조회하는 경로에서는 미리 직렬화한 조각 없이 Jackson 이 회원 필드를 직렬화한다.
+     */
+    private List<ParticipantResponse> getParticipationResponses(Collection<Participant> participants) {
+        return participants.stream()
                 .map(participant -> new ParticipantResponse(participant.getMember(), participant.getParticipationDate()))
                 .collect(Collectors.toList());
     }
 
-    private List<ApplicantResponse> getApplicantResponse(Study study) {
-        return study.getApplicants()
-                .stream()
+    private ParticipantResponse toParticipantResponse(Participant participant) {
+        Member member = participant.getMember();
+        return new ParticipantResponse(member, participant.getParticipationDate(), memberFragmentCache.get(member));
+    }
+
+    private List<ApplicantResponse> getApplicantResponse(Collection<Applicant> applicants) {
+        return applicants.stream()
                 .map(applicant -> new ApplicantResponse(applicant.getMember(), applicant.getReasonForApplication(), applicant.getApplicantDate()))
                 .collect(Collectors.toList());
     }
 
+    private List<StudyCard> findStudyCardsInOrder(List<Long> studyIds) {
+        Map<Long, StudyCard> studyCards = studyCardRepository.findAllById(studyIds)
+                .stream()
+                .collect(Collectors.toMap(StudyCard::getId, Function.identity()));
+        return studyIds.stream()
+                .map(studyCards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<StudyResponse> getStudyCardResponses(List<StudyCard> studyCards) {
+        return studyCards.stream()
+                .map(StudyResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    private List<StudyResponse> getStudyResponses(List<Study> studies) {
+        if (studies.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> studyIds = studies.stream()
+                .map(Study::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<String>> tagTexts = studyRepository.findTagTextsByStudyIds(studyIds);
+
+        return studies.stream()
+                .map(study -> new StudyResponse(study, tagTexts.getOrDefault(study.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
     private List<String> getTags(List<Tag> tags) {
         return tags.stream()
                 .map(Tag::getTagText)
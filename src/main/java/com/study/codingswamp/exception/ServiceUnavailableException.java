@@ -0,0 +1,20 @@
+package com.study.codingswamp.exception;
+
+public class ServiceUnavailableException extends CodingSwampException{
+
+    private static final String MESSAGE = "잠시 요청을 처리할 수 없습니다.";
+
+    public ServiceUnavailableException() {
+        super(MESSAGE);
+    }
+
+    public ServiceUnavailableException(String fieldName, String message) {
+        super(MESSAGE);
+        addValidation(fieldName, message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 503;
+    }
+}
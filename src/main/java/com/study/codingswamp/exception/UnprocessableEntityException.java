@@ -0,0 +1,20 @@
+package com.study.codingswamp.exception;
+
+public class UnprocessableEntityException extends CodingSwampException {
+
+    private static final String MESSAGE = "요청을 처리할 수 없습니다.";
+
+    public UnprocessableEntityException() {
+        super(MESSAGE);
+    }
+
+    public UnprocessableEntityException(String fieldName, String message) {
+        super(MESSAGE);
+        addValidation(fieldName, message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 422;
+    }
+}
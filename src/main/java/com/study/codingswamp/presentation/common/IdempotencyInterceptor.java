@@ -0,0 +1,111 @@
+package com.study.codingswamp.presentation.common;
+
+import com.study.codingswamp.application.auth.token.TokenProvider;
+import com.study.codingswamp.exception.ConflictException;
+import com.study.codingswamp.exception.InvalidRequestException;
+import com.study.codingswamp.exception.UnprocessableEntityException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * {@link Idempotent} 가 붙은 요청에 Idempotency-Key 헤더가 있으면 같은 회원, 메서드, 경로, 키로 처리한 응답을
+ * 트랜잭션을 열지 않고 그대로 돌려준다. 처음 요청이 아직 처리 중이면 409 로 응답한다.
+ * 키와 함께 요청 본문의 해시를 저장해 두고, 같은 키로 다른 본문을 보내면 422 로 응답한다.
+ * 본문은 {@link IdempotencyRequestFilter} 가 미리 읽어 둔 것을 쓰고, 읽어 두지 못한 본문이 있으면 400 으로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final String STORE_KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".storeKey";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final TokenProvider tokenProvider;
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || !((HandlerMethod) handler).hasMethodAnnotation(Idempotent.class)) {
+            return true;
+        }
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (!StringUtils.hasText(idempotencyKey) || authorizationHeader == null) {
+            return true;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException(IDEMPOTENCY_KEY, "멱등키는 255자 이하여야 합니다.");
+        }
+
+        Long memberId = tokenProvider.getPayload(authorizationHeader).getId();
+        String storeKey = memberId + ":" + request.getMethod() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        IdempotencyStore.Entry existing = idempotencyStore.reserve(storeKey, fingerprint);
+        if (existing == null) {
+            request.setAttribute(STORE_KEY_ATTRIBUTE, storeKey);
+            return true;
+        }
+        if (!existing.matches(fingerprint)) {
+            throw new UnprocessableEntityException(IDEMPOTENCY_KEY, "같은 멱등키로 다른 내용의 요청을 보낼 수 없습니다.");
+        }
+        if (!existing.isCompleted()) {
+            throw new ConflictException(IDEMPOTENCY_KEY, "같은 멱등키로 처리 중인 요청이 있습니다.");
+        }
+
+        response.setStatus(existing.getStatus());
+        if (existing.getLocation() != null) {
+            response.setHeader(HttpHeaders.LOCATION, existing.getLocation());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        String storeKey = (String) request.getAttribute(STORE_KEY_ATTRIBUTE);
+        if (storeKey == null) {
+            return;
+        }
+        if (ex == null && HttpStatus.Series.resolve(response.getStatus()) == HttpStatus.Series.SUCCESSFUL) {
+            idempotencyStore.complete(storeKey, response.getStatus(), response.getHeader(HttpHeaders.LOCATION));
+            return;
+        }
+        idempotencyStore.release(storeKey);
+    }
+
+    private String fingerprint(HttpServletRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(getBody(request));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] getBody(HttpServletRequest request) {
+        IdempotencyRequestFilter.CachedBodyRequest cachedBodyRequest =
+                WebUtils.getNativeRequest(request, IdempotencyRequestFilter.CachedBodyRequest.class);
+        if (cachedBodyRequest != null) {
+            return cachedBodyRequest.getBody();
+        }
+        if (IdempotencyRequestFilter.hasBody(request)) {
+            throw new InvalidRequestException(IDEMPOTENCY_KEY, "멱등키는 64KB 이하의 JSON 본문을 보내는 요청에만 쓸 수 있습니다.");
+        }
+        return new byte[0];
+    }
+}
@@ -0,0 +1,129 @@
+package com.study.codingswamp.presentation.common;
+
+import com.study.codingswamp.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멱등키별로 처리 중 표시나 처리가 끝난 응답(상태 코드, Location)을 요청 본문의 해시와 함께 TTL 동안 보관한다.
+ * 가득 차면 만료된 항목을 치우고, 그래도 자리가 없으면 새 키를 503 으로 거절한다.
+ * 기록하지 않고 처리하면 같은 키로 재시도할 때 변경이 두 번 일어나고, 살아 있는 항목을 밀어내도 그 키가 같은 문제를 겪는다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private volatile long nextSweepAt;
+
+    @Autowired
+    public IdempotencyStore(@Value("${app.idempotency.maximum-size:10000}") int maximumSize,
+                            @Value("${app.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this(maximumSize, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    IdempotencyStore(int maximumSize, Duration ttl, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 키를 처리 중으로 잡는다. 살아 있는 항목이 이미 있으면 그 항목을 돌려주고, 없으면 null 을 돌려준다.
+     *
+     * @throws ServiceUnavailableException 만료된 항목을 치워도 새 키를 기록할 자리가 없을 때
+     */
+    public Entry reserve(String key, String fingerprint) {
+        long now = clock.millis();
+        Entry existing = entries.get(key);
+        if (existing != null && !existing.isExpired(now)) {
+            return existing;
+        }
+        if (existing != null) {
+            entries.remove(key, existing);
+        }
+        if (entries.size() >= maximumSize && !evictExpired(now)) {
+            throw new ServiceUnavailableException(IdempotencyInterceptor.IDEMPOTENCY_KEY, "저장된 멱등키가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return entries.putIfAbsent(key, Entry.inProgress(fingerprint, now + ttlMillis));
+    }
+
+    public void complete(String key, int status, String location) {
+        long expiresAt = clock.millis() + ttlMillis;
+        entries.computeIfPresent(key, (k, entry) -> Entry.completed(entry.fingerprint, status, location, expiresAt));
+    }
+
+    /**
+     * 처리에 실패하면 같은 키로 다시 시도할 수 있도록 처리 중 표시를 지운다.
+     */
+    public void release(String key) {
+        entries.computeIfPresent(key, (k, entry) -> entry.isCompleted() ? entry : null);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean evictExpired(long now) {
+        if (now >= nextSweepAt) {
+            nextSweepAt = now + SWEEP_INTERVAL_MILLIS;
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+        return entries.size() < maximumSize;
+    }
+
+    public static class Entry {
+
+        private final String fingerprint;
+        private final boolean completed;
+        private final int status;
+        private final String location;
+        private final long expiresAt;
+
+        private Entry(String fingerprint, boolean completed, int status, String location, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.completed = completed;
+            this.status = status;
+            this.location = location;
+            this.expiresAt = expiresAt;
+        }
+
+        private static Entry inProgress(String fingerprint, long expiresAt) {
+            return new Entry(fingerprint, false, 0, null, expiresAt);
+        }
+
+        private static Entry completed(String fingerprint, int status, String location, long expiresAt) {
+            return new Entry(fingerprint, true, status, location, expiresAt);
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        public boolean matches(String fingerprint) {
+            return this.fingerprint.equals(fingerprint);
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+    }
+}
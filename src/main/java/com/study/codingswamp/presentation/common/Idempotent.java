@@ -0,0 +1,15 @@
+package com.study.codingswamp.presentation.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 보내면 같은 키로 다시 온 요청에 처음 응답을 그대로 돌려준다.
+ * 응답 본문이 없는 변경 API 에만 붙인다. 상태 코드와 Location 헤더만 저장하기 때문이다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
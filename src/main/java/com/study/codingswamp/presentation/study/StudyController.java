@@ -1,20 +1,32 @@
 package com.study.codingswamp.presentation.study;
 
 import com.study.codingswamp.presentation.common.AuthenticatedMember;
+import com.study.codingswamp.presentation.common.Idempotent;
 import com.study.codingswamp.presentation.common.Login;
 import com.study.codingswamp.application.auth.MemberPayload;
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.dto.request.FieldSelection;
 import com.study.codingswamp.domain.study.dto.request.SearchCondition;
 import com.study.codingswamp.domain.study.entity.Study;
 import com.study.codingswamp.domain.study.service.StudyService;
+import com.study.codingswamp.domain.study.dto.request.ApplicantDecisionRequest;
 import com.study.codingswamp.domain.study.dto.request.ApplyRequest;
 import com.study.codingswamp.domain.study.dto.request.StudiesPageableRequest;
 import com.study.codingswamp.domain.study.dto.request.StudyRequest;
+import com.study.codingswamp.domain.study.dto.response.ApplicantResponse;
+import com.study.codingswamp.domain.study.dto.response.AutocompleteResponse;
+import com.study.codingswamp.domain.study.dto.response.PageCursor;
+import com.study.codingswamp.domain.study.dto.response.ParticipantResponse;
 import com.study.codingswamp.domain.study.dto.response.StudiesResponse;
 import com.study.codingswamp.domain.study.dto.response.StudyDetailResponse;
+import com.study.codingswamp.domain.study.dto.response.StudyResponse;
+import com.study.codingswamp.exception.InvalidRequestException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 
@@ -26,6 +38,7 @@ public class StudyController {
     private final StudyService studyService;
 
     @Login
+    @Idempotent
     @PostMapping
     public ResponseEntity<Void> create(@AuthenticatedMember MemberPayload memberPayload,
                                        @Validated @RequestBody StudyRequest request) {
@@ -34,27 +47,80 @@ public class StudyController {
     }
 
     @GetMapping("/{studyId}")
-    public ResponseEntity<StudyDetailResponse> getStudyDetails(@PathVariable Long studyId) {
-        StudyDetailResponse response = studyService.getStudyDetails(studyId);
-        return ResponseEntity.ok().body(response);
+    public ResponseEntity<MappingJacksonValue> getStudyDetails(@PathVariable Long studyId,
+                                                               @RequestParam(defaultValue = "false") boolean countsOnly,
+                                                               @RequestParam(required = false) String fields,
+                                                               WebRequest webRequest) {
+        FieldSelection fieldSelection = FieldSelection.of(fields, FieldSelection.STUDY_DETAIL_FIELDS);
+        if (countsOnly) {
+            validateCountsOnly(fieldSelection);
+        }
+        String eTag = studyService.getStudyDetailETag(studyId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (countsOnly && fieldSelection.isAll()) {
+            return ResponseEntity.ok().eTag(eTag).body(select(studyService.getStudySummary(studyId), fieldSelection));
+        }
+        StudyDetailResponse response = studyService.getStudyDetails(studyId, fieldSelection);
+        return ResponseEntity.ok().eTag(eTag).body(select(response, fieldSelection));
+    }
+
+    @GetMapping("/{studyId}/participants")
+    public ResponseEntity<PageCursor<ParticipantResponse>> getParticipants(@PathVariable Long studyId,
+                                                                           @ModelAttribute CursorRequest request) {
+        PageCursor<ParticipantResponse> response = studyService.getParticipants(studyId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{studyId}/applicants")
+    public ResponseEntity<PageCursor<ApplicantResponse>> getApplicants(@PathVariable Long studyId,
+                                                                       @ModelAttribute CursorRequest request) {
+        PageCursor<ApplicantResponse> response = studyService.getApplicants(studyId, request);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<StudiesResponse> getStudies(@ModelAttribute StudiesPageableRequest request) {
+    public ResponseEntity<MappingJacksonValue> getStudies(@ModelAttribute StudiesPageableRequest request,
+                                                          @RequestParam(required = false) String fields,
+                                                          WebRequest webRequest) {
+        FieldSelection fieldSelection = FieldSelection.of(fields, FieldSelection.STUDY_FIELDS);
+        String eTag = studyService.getStudiesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         StudiesResponse response = studyService.getStudies(request);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(select(response, fieldSelection));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<MappingJacksonValue> getStudiesByCursor(@ModelAttribute CursorRequest request,
+                                                                  @RequestParam(required = false) String fields,
+                                                                  WebRequest webRequest) {
+        FieldSelection fieldSelection = FieldSelection.of(fields, FieldSelection.STUDY_FIELDS);
+        String eTag = studyService.getStudiesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        PageCursor<StudyResponse> response = studyService.getStudies(request);
+        return ResponseEntity.ok().eTag(eTag).body(select(response, fieldSelection));
     }
 
     @Login
+    @Idempotent
     @PatchMapping("/{studyId}/apply")
     public ResponseEntity<Void> apply(@AuthenticatedMember MemberPayload memberPayload,
                                       @PathVariable Long studyId,
                                       @Validated @RequestBody ApplyRequest applyRequest) {
-        studyService.apply(memberPayload.getId(), studyId, applyRequest);
-        return ResponseEntity.created(URI.create("/api/study/" + studyId)).build();
+        URI location = URI.create("/api/study/" + studyId);
+        if (studyService.apply(memberPayload.getId(), studyId, applyRequest)) {
+            return ResponseEntity.accepted().location(location).build();
+        }
+        return ResponseEntity.created(location).build();
     }
 
     @Login
+    @Idempotent
     @PatchMapping("/{studyId}/approve/{applicantId}")
     public ResponseEntity<Void> approve(@AuthenticatedMember MemberPayload memberPayload,
                                         @PathVariable Long studyId,
@@ -63,6 +129,16 @@ public class StudyController {
         return ResponseEntity.created(URI.create("/api/study/" + studyId)).build();
     }
 
+    @Login
+    @Idempotent
+    @PatchMapping("/{studyId}/applicants")
+    public ResponseEntity<Void> decideApplicants(@AuthenticatedMember MemberPayload memberPayload,
+                                                 @PathVariable Long studyId,
+                                                 @Validated @RequestBody ApplicantDecisionRequest request) {
+        studyService.decideApplicants(memberPayload.getId(), studyId, request);
+        return ResponseEntity.created(URI.create("/api/study/" + studyId)).build();
+    }
+
     @Login
     @GetMapping("/my/applies")
     public ResponseEntity<StudiesResponse> getMyApplies(@AuthenticatedMember MemberPayload memberPayload) {
@@ -70,6 +146,13 @@ public class StudyController {
         return ResponseEntity.ok(response);
     }
 
+    @Login
+    @GetMapping("/my/waitings")
+    public ResponseEntity<StudiesResponse> getMyWaitings(@AuthenticatedMember MemberPayload memberPayload) {
+        StudiesResponse response = studyService.getMyWaitings(memberPayload.getId());
+        return ResponseEntity.ok(response);
+    }
+
     @Login
     @GetMapping("/my/participates")
     public ResponseEntity<StudiesResponse> getMyParticipates(@AuthenticatedMember MemberPayload memberPayload) {
@@ -87,6 +170,7 @@ public class StudyController {
     }
 
     @Login
+    @Idempotent
     @DeleteMapping("/{studyId}")
     public ResponseEntity<Void> delete(@AuthenticatedMember MemberPayload memberPayload,
                                        @PathVariable Long studyId) {
@@ -95,6 +179,7 @@ public class StudyController {
     }
 
     @Login
+    @Idempotent
     @PatchMapping("/{studyId}/withdraw")
     public ResponseEntity<Void> withdraw(@AuthenticatedMember MemberPayload memberPayload,
                                          @PathVariable Long studyId) {
@@ -103,6 +188,7 @@ public class StudyController {
     }
 
     @Login
+    @Idempotent
     @PatchMapping("/{studyId}/kick/{memberId}")
     public ResponseEntity<Void> kick(@AuthenticatedMember MemberPayload memberPayload,
                                      @PathVariable Long studyId,
@@ -112,6 +198,7 @@ public class StudyController {
     }
 
     @Login
+    @Idempotent
     @PatchMapping("/{studyId}/apply-cancel")
     public ResponseEntity<Void> cancelApply(
             @AuthenticatedMember MemberPayload memberPayload,
@@ -121,8 +208,34 @@ public class StudyController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<StudiesResponse> getSearchStudies(@ModelAttribute SearchCondition condition) {
+    public ResponseEntity<MappingJacksonValue> getSearchStudies(@ModelAttribute SearchCondition condition,
+                                                                @RequestParam(required = false) String fields) {
+        FieldSelection fieldSelection = FieldSelection.of(fields, FieldSelection.STUDY_FIELDS);
         StudiesResponse response = studyService.getSearchStudies(condition);
+        return ResponseEntity.ok(select(response, fieldSelection));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<AutocompleteResponse> autocomplete(@RequestParam String keyword,
+                                                             @RequestParam(required = false) Integer size) {
+        AutocompleteResponse response = studyService.autocomplete(keyword, size);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * countsOnly 는 목록을 빼는 요청이므로 목록 필드를 고른 fields 와 함께 쓸 수 없다.
+     * 목록 필드를 고르지 않았다면 fields 조회가 이미 목록을 읽지 않으므로 그대로 fields 조회로 처리한다.
+     */
+    private void validateCountsOnly(FieldSelection fieldSelection) {
+        if (!fieldSelection.isAll()
+                && (fieldSelection.includes("participants") || fieldSelection.includes("applicants"))) {
+            throw new InvalidRequestException("countsOnly", "countsOnly 와 participants, applicants 필드는 함께 요청할 수 없습니다.");
+        }
+    }
+
+    private MappingJacksonValue select(Object response, FieldSelection fieldSelection) {
+        MappingJacksonValue value = new MappingJacksonValue(response);
+        value.setFilters(fieldSelection.toFilterProvider());
+        return value;
+    }
 }
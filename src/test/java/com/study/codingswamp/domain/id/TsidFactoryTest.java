@@ -0,0 +1,96 @@
+package com.study.codingswamp.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TsidFactoryTest {
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스를 넘겨 만들어도 중복 없이 증가한다.")
+    void nextInSameMillisecond() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2023-06-01T00:00:00Z"), ZoneOffset.UTC);
+        TsidFactory tsidFactory = new TsidFactory(3, clock);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(tsidFactory.next());
+        }
+
+        // then
+        assertThat(ids).isSorted();
+        assertThat(new HashSet<>(ids)).hasSize(1000);
+        assertThat(ids).allMatch(id -> (id >> TsidFactory.SEQUENCE_BITS & TsidFactory.MAX_NODE) == 3);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전 id 보다 큰 id 를 만든다.")
+    void nextWhenClockMovesBackwards() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2023-06-01T00:00:01Z"));
+        TsidFactory tsidFactory = new TsidFactory(0, clock);
+        long first = tsidFactory.next();
+
+        // when
+        clock.instant = Instant.parse("2023-06-01T00:00:00Z");
+        long second = tsidFactory.next();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("2092년까지 만든 id 도 자바스크립트에서 정확히 표현할 수 있다.")
+    void fitsInJavaScriptSafeInteger() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2092-01-01T00:00:00Z"), ZoneOffset.UTC);
+        TsidFactory tsidFactory = new TsidFactory(TsidFactory.MAX_NODE, clock);
+
+        // when
+        long id = tsidFactory.next();
+
+        // then
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 번호는 예외가 발생한다.")
+    void invalidNode() {
+        assertThrows(IllegalArgumentException.class, () -> new TsidFactory(TsidFactory.MAX_NODE + 1));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
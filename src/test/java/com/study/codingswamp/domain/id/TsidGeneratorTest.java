@@ -0,0 +1,69 @@
+package com.study.codingswamp.domain.id;
+
+import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.entity.Applicant;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.repository.ApplicantRepository;
+import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
+import com.study.codingswamp.util.fixture.entity.study.ApplicantFixture;
+import com.study.codingswamp.util.fixture.entity.study.StudyFixture;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class TsidGeneratorTest {
+
+    private static final int APPLICANT_COUNT = 120;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private ApplicantRepository applicantRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("TSID 를 쓰는 엔티티는 INSERT 를 batch_size 단위로 묶어 보낸다.")
+    void batchInsert() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyRepository.save(StudyFixture.create(owner));
+        List<Applicant> applicants = new ArrayList<>();
+        for (int i = 0; i < APPLICANT_COUNT; i++) {
+            Member member = memberRepository.save(MemberFixture.create("applicant" + i + "@gmail.com", "1q2w3e4r!", "applicant" + i));
+            applicants.add(ApplicantFixture.create(study, member));
+        }
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        applicantRepository.saveAll(applicants);
+        long statementCountBeforeFlush = statistics.getPrepareStatementCount();
+        entityManager.flush();
+
+        // then
+        assertThat(statementCountBeforeFlush).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isBetween(1L, 3L);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(APPLICANT_COUNT);
+        assertThat(applicants).extracting(Applicant::getId).isSorted();
+    }
+}
@@ -0,0 +1,106 @@
+package com.study.codingswamp.domain.member.cache;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.study.dto.response.ParticipantResponse;
+import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberFragmentCacheTest {
+
+    @Test
+    @DisplayName("프로필 버전이 같으면 직렬화한 조각을 재사용하고, 프로필이 바뀌면 다시 직렬화한다.")
+    void getAndUpdateProfile() {
+        // given
+        MemberFragmentCache cache = new MemberFragmentCache(10);
+        Member member = createMember(1L);
+        SerializedString first = cache.get(member);
+
+        // when
+        SerializedString second = cache.get(member);
+        member.updateUsername("kim");
+        SerializedString updated = cache.get(member);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(updated.getValue()).contains("\"username\":\"kim\"");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 같은 버전이어도 다시 직렬화한다.")
+    void invalidate() {
+        // given
+        MemberFragmentCache cache = new MemberFragmentCache(10);
+        Member member = createMember(1L);
+        SerializedString first = cache.get(member);
+
+        // when
+        cache.invalidate(member.getId());
+        SerializedString second = cache.get(member);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getValue()).isEqualTo(first.getValue());
+    }
+
+    @Test
+    @DisplayName("조각을 이어 붙인 응답은 필드별로 직렬화한 결과와 같다.")
+    void serializeWithFragment() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        MemberFragmentCache cache = new MemberFragmentCache(10);
+        Member member = createMember(1L);
+        member.updateProfileUrl("https://github.com/\"hong\"");
+        LocalDate participationDate = LocalDate.of(2023, 3, 1);
+
+        // when
+        String json = objectMapper.writeValueAsString(
+                new ParticipantResponse(member, participationDate, cache.get(member)));
+
+        // then
+        assertThat(json).isEqualTo("{\"memberId\":1,\"username\":\"hong\",\"imageUrl\":null,"
+                + "\"profileUrl\":\"https://github.com/\\\"hong\\\"\",\"participationDate\":\"2023-03-01\"}");
+    }
+
+    @Test
+    @DisplayName("조각이 없거나 들여쓰기를 하면 회원 필드를 하나씩 직렬화한다.")
+    void serializeWithoutFragment() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        MemberFragmentCache cache = new MemberFragmentCache(10);
+        Member member = createMember(1L);
+        LocalDate participationDate = LocalDate.of(2023, 3, 1);
+
+        // when
+        String withoutFragment = objectMapper.writeValueAsString(new ParticipantResponse(member, participationDate));
+        String withFragment = objectMapper.writeValueAsString(
+                new ParticipantResponse(member, participationDate, cache.get(member)));
+        String prettyPrinted = objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValueAsString(new ParticipantResponse(member, participationDate, cache.get(member)));
+
+        // then
+        assertThat(withoutFragment).isEqualTo(withFragment);
+        assertThat(prettyPrinted).isEqualTo(objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValueAsString(objectMapper.readTree(withFragment)));
+    }
+
+    private Member createMember(Long memberId) {
+        Member member = MemberFixture.create(false);
+        ReflectionTestUtils.setField(member, "id", memberId);
+        return member;
+    }
+}
@@ -0,0 +1,98 @@
+package com.study.codingswamp.domain.member.service;
+
+import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.member.entity.MemberCleanup;
+import com.study.codingswamp.domain.member.entity.MemberCleanupStage;
+import com.study.codingswamp.domain.member.repository.MemberCleanupRepository;
+import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.repository.ApplicantRepository;
+import com.study.codingswamp.domain.study.repository.ParticipantRepository;
+import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.domain.study.service.StudyService;
+import com.study.codingswamp.util.fixture.dto.study.ApplyRequestFixture;
+import com.study.codingswamp.util.fixture.dto.study.StudyRequestFixture;
+import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class MemberCleanupServiceTest {
+
+    @Autowired
+    private MemberCleanupService memberCleanupService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private StudyService studyService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberCleanupRepository memberCleanupRepository;
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private ApplicantRepository applicantRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("탈퇴는 정리 작업만 등록하고, 정리 작업이 스터디 위임, 참가 탈퇴, 신청 삭제를 이어서 처리한다.")
+    void cleanUpDeletedMember() {
+        // given
+        Member member = memberRepository.save(MemberFixture.create("member@gmail.com", "1q2w3e4r!", "member"));
+        Member participant = memberRepository.save(MemberFixture.create("participant@gmail.com", "1q2w3e4r!", "participant"));
+        Member otherOwner = memberRepository.save(MemberFixture.create("owner@gmail.com", "1q2w3e4r!", "owner"));
+
+        Study ownedStudy = studyService.createStudy(member.getId(), StudyRequestFixture.create());
+        studyService.apply(participant.getId(), ownedStudy.getId(), ApplyRequestFixture.create());
+        studyService.approve(member.getId(), ownedStudy.getId(), participant.getId());
+        Study aloneStudy = studyService.createStudy(member.getId(), StudyRequestFixture.create());
+        Study participatedStudy = studyService.createStudy(otherOwner.getId(), StudyRequestFixture.create());
+        studyService.apply(member.getId(), participatedStudy.getId(), ApplyRequestFixture.create());
+        studyService.approve(otherOwner.getId(), participatedStudy.getId(), member.getId());
+        Study appliedStudy = studyService.createStudy(otherOwner.getId(), StudyRequestFixture.create());
+        studyService.apply(member.getId(), appliedStudy.getId(), ApplyRequestFixture.create());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        memberService.delete(member.getId());
+        entityManager.flush();
+        MemberCleanup cleanup = memberCleanupRepository.findByMemberId(member.getId()).orElseThrow();
+        boolean participationsLeftAfterDelete = participantRepository.existsByStudyIdAndMemberId(participatedStudy.getId(), member.getId());
+        int batchCount = 0;
+        boolean hasMore = true;
+        while (hasMore) {
+            entityManager.clear();
+            hasMore = memberCleanupService.runBatch(cleanup.getId());
+            entityManager.flush();
+            batchCount++;
+        }
+        entityManager.clear();
+
+        // then
+        assertThat(participationsLeftAfterDelete).isTrue();
+        assertThat(batchCount).isEqualTo(7);
+        assertThat(memberCleanupRepository.findById(cleanup.getId()).orElseThrow().getStage())
+                .isEqualTo(MemberCleanupStage.COMPLETED);
+
+        Study handedOverStudy = studyRepository.findById(ownedStudy.getId()).orElseThrow();
+        assertThat(handedOverStudy.getOwner().getId()).isEqualTo(participant.getId());
+        assertThat(handedOverStudy.getCurrentMemberCount()).isEqualTo(1);
+        assertThat(studyRepository.findById(aloneStudy.getId())).isEmpty();
+        assertThat(studyRepository.findCurrentMemberCount(participatedStudy.getId())).isEqualTo(1);
+        assertThat(participantRepository.existsByStudyIdAndMemberId(participatedStudy.getId(), member.getId())).isFalse();
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(appliedStudy.getId(), member.getId())).isFalse();
+    }
+}
@@ -0,0 +1,136 @@
+package com.study.codingswamp.domain.study.cache;
+
+import com.study.codingswamp.domain.study.dto.response.StudyDetailResponse;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.StudyStatus;
+import com.study.codingswamp.domain.study.entity.StudyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyDetailCacheTest {
+
+    @Test
+    @DisplayName("버전이 같으면 캐시된 응답을 사용하고, 버전이 오르면 다시 조회한다.")
+    void getAndInvalidate() {
+        // given
+        StudyDetailCache cache = new StudyDetailCache(10);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        cache.get(1L, studyId -> load(studyId, loadCount));
+        cache.get(1L, studyId -> load(studyId, loadCount));
+        cache.invalidate(1L);
+        cache.get(1L, studyId -> load(studyId, loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(cache.getStats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 내보낸다.")
+    void evictLeastRecentlyUsed() {
+        // given
+        StudyDetailCache cache = new StudyDetailCache(2);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get(1L, studyId -> load(studyId, loadCount));
+        cache.get(2L, studyId -> load(studyId, loadCount));
+        cache.get(1L, studyId -> load(studyId, loadCount));
+
+        // when
+        cache.get(3L, studyId -> load(studyId, loadCount));
+        cache.get(1L, studyId -> load(studyId, loadCount));
+        cache.get(2L, studyId -> load(studyId, loadCount));
+
+        // then
+        assertThat(cache.getStats().getEvictionCount()).isEqualTo(2);
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("조회 도중 버전이 바뀌면 조회한 응답을 캐시하지 않는다.")
+    void notCacheStaleLoad() {
+        // given
+        StudyDetailCache cache = new StudyDetailCache(10);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        cache.get(1L, studyId -> {
+            cache.invalidate(studyId);
+            return load(studyId, loadCount);
+        });
+        cache.get(1L, studyId -> load(studyId, loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.getStats().getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 무효화 후에는 모든 스터디를 다시 조회한다.")
+    void invalidateAll() {
+        // given
+        StudyDetailCache cache = new StudyDetailCache(10);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get(1L, studyId -> load(studyId, loadCount));
+        cache.get(2L, studyId -> load(studyId, loadCount));
+
+        // when
+        cache.invalidateAll();
+        cache.get(1L, studyId -> load(studyId, loadCount));
+        cache.get(2L, studyId -> load(studyId, loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("삭제된 스터디는 버전과 캐시 항목이 모두 지워진다.")
+    void remove() {
+        // given
+        StudyDetailCache cache = new StudyDetailCache(10);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.invalidate(1L);
+        cache.invalidate(2L);
+        cache.get(1L, studyId -> load(studyId, loadCount));
+
+        // when
+        cache.remove(1L);
+
+        // then
+        assertThat(cache.getStats().getSize()).isEqualTo(0);
+        assertThat(cache.getStats().getVersionCount()).isEqualTo(1);
+    }
+
+    private StudyDetailResponse load(Long studyId, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        Study study = Study.builder()
+                .title("제목입니다.")
+                .description("설명입니다.")
+                .studyStatus(StudyStatus.PREPARING)
+                .studyType(StudyType.STUDY)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .currentMemberCount(1)
+                .maxMemberCount(30)
+                .thumbnail("#00000")
+                .tags(new ArrayList<>())
+                .build();
+        ReflectionTestUtils.setField(study, "id", studyId);
+        return StudyDetailResponse.builder()
+                .study(study)
+                .participants(new ArrayList<>())
+                .applicants(new ArrayList<>())
+                .tags(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.study.codingswamp.domain.study.card;
+
+import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.dto.request.StudyRequest;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.StudyCard;
+import com.study.codingswamp.domain.study.repository.StudyCardRepository;
+import com.study.codingswamp.domain.study.service.StudyService;
+import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class StudyCardInitializerTest {
+
+    @Autowired
+    private StudyCardInitializer studyCardInitializer;
+    @Autowired
+    private StudyService studyService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StudyCardRepository studyCardRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("태그가 예전 콤마 형식으로 남은 카드는 study_tag 를 다시 읽어 고쳐 쓴다.")
+    void rewriteLegacyTags() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), createRequest(List.of("spring,boot", "java")));
+        entityManager.flush();
+        jdbcTemplate.update("update study_card set tags = ? where study_id = ?", "spring,boot,java", study.getId());
+        entityManager.clear();
+
+        // when
+        studyCardInitializer.backfill();
+        entityManager.clear();
+
+        // then
+        StudyCard studyCard = studyCardRepository.findById(study.getId()).orElseThrow();
+        assertThat(studyCard.getTagTexts()).containsExactlyInAnyOrder("spring,boot", "java");
+        assertThat(studyCard.isTagsTruncated()).isFalse();
+    }
+
+    private StudyRequest createRequest(List<String> tags) {
+        return StudyRequest.builder()
+                .title("제목입니다.")
+                .description("설명입니다.")
+                .studyType("STUDY")
+                .thumbnail("#000000")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .maxMemberCount(30)
+                .tags(tags)
+                .build();
+    }
+}
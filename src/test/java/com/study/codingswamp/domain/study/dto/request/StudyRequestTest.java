@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -94,4 +95,45 @@ class StudyRequestTest {
                 () -> request.mapToStudy(owner)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("콤마가 든 태그나 길고 많은 태그도 그대로 등록된다.")
+    void tagWithDelimiterAndLongList() {
+        // given
+        StudyRequest withDelimiter = createRequest(List.of("spring,boot"));
+        StudyRequest longList = createRequest(Collections.nCopies(300, "가".repeat(21)));
+        Member owner = new Member("abc@gmail.com", "1q2w3e4r!", "hong", null);
+
+        // when
+        Study withDelimiterStudy = withDelimiter.mapToStudy(owner);
+        Study longListStudy = longList.mapToStudy(owner);
+
+        // then
+        assertThat(withDelimiterStudy.getTags()).extracting(Tag::getTagText).containsExactly("spring,boot");
+        assertThat(longListStudy.getTags()).hasSize(300);
+    }
+
+    @Test
+    @DisplayName("빈 태그는 예외가 발생한다.")
+    void blankTag() {
+        // given
+        StudyRequest blank = createRequest(List.of(" "));
+        Member owner = new Member("abc@gmail.com", "1q2w3e4r!", "hong", null);
+
+        // expected
+        assertThrows(InvalidRequestException.class, () -> blank.mapToStudy(owner));
+    }
+
+    private StudyRequest createRequest(List<String> tags) {
+        return StudyRequest.builder()
+                .title("제목입니다.")
+                .description("설명입니다.")
+                .studyType("STUDY")
+                .thumbnail("#000000")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .maxMemberCount(30)
+                .tags(tags)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.study.codingswamp.domain.study.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyCardTagsTest {
+
+    @Test
+    @DisplayName("콤마나 따옴표가 든 태그도 인코딩한 뒤 그대로 되돌린다.")
+    void encodeAndDecode() {
+        // given
+        List<String> tagTexts = List.of("spring,boot", "\"quoted\"", "자바");
+
+        // when
+        StudyCardTags tags = StudyCardTags.encode(tagTexts);
+
+        // then
+        assertThat(tags.isTruncated()).isFalse();
+        assertThat(StudyCardTags.decode(tags.getValue())).containsExactlyElementsOf(tagTexts);
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 목록은 통째로 들어가는 태그까지만 담고 잘렸다고 표시한다.")
+    void encodeTruncated() {
+        // given
+        List<String> tagTexts = Collections.nCopies(300, "가".repeat(20));
+
+        // when
+        StudyCardTags tags = StudyCardTags.encode(tagTexts);
+
+        // then
+        assertThat(tags.isTruncated()).isTrue();
+        assertThat(tags.getValue().length()).isLessThanOrEqualTo(StudyCardTags.MAX_LENGTH);
+        assertThat(StudyCardTags.decode(tags.getValue()))
+                .hasSizeLessThan(300)
+                .allMatch(tagText -> tagText.equals("가".repeat(20)));
+    }
+
+    @Test
+    @DisplayName("JSON 배열이 아닌 예전 값은 콤마로 나눠 읽는다.")
+    void decodeLegacy() {
+        // expected
+        assertThat(StudyCardTags.isLegacy("spring,java")).isTrue();
+        assertThat(StudyCardTags.decode("spring,java")).containsExactly("spring", "java");
+        assertThat(StudyCardTags.isLegacy("[\"spring\"]")).isFalse();
+        assertThat(StudyCardTags.decode(null)).isEmpty();
+    }
+}
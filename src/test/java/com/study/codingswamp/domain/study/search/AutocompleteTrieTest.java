@@ -0,0 +1,101 @@
+package com.study.codingswamp.domain.study.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+
+    @Test
+    @DisplayName("접두어로 시작하는 단어를 가중치가 큰 순으로 size 개 반환한다.")
+    void suggest() {
+        // given
+        AutocompleteTrie trie = new AutocompleteTrie();
+        trie.add("spring", 3);
+        trie.add("spring", 4);
+        trie.add("spa", 10);
+        trie.add("sql", 1);
+        trie.add("java", 100);
+
+        // when
+        List<Suggestion> suggestions = trie.suggest("sp", 2);
+
+        // then
+        assertThat(suggestions).extracting(Suggestion::getText).containsExactly("spa", "spring");
+        assertThat(suggestions).extracting(Suggestion::getScore).containsExactly(10L, 7L);
+    }
+
+    @Test
+    @DisplayName("모든 스터디에서 빠진 단어는 추천하지 않는다.")
+    void remove() {
+        // given
+        AutocompleteTrie trie = new AutocompleteTrie();
+        trie.add("spring", 3);
+        trie.add("spring", 4);
+        trie.add("spa", 10);
+
+        // when
+        trie.remove("spring", 3);
+        trie.remove("spa", 10);
+
+        // then
+        assertThat(trie.suggest("s", 10)).extracting(Suggestion::getText).containsExactly("spring");
+        assertThat(trie.suggest("s", 10)).extracting(Suggestion::getScore).containsExactly(4L);
+        assertThat(trie.suggest("spa", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드마다 유지하는 상위 목록은 추가와 삭제를 반복해도 전체를 훑은 결과와 같다.")
+    void suggestMatchesFullScan() {
+        // given
+        AutocompleteTrie trie = new AutocompleteTrie(3);
+        Map<String, Long> weights = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        String[] words = {"s", "sp", "spa", "spring", "sql", "spark", "scala", "swift", "st", "study"};
+        Random random = new Random(7);
+
+        for (int i = 0; i < 2000; i++) {
+            String word = words[random.nextInt(words.length)];
+            long weight = random.nextInt(5);
+            if (random.nextInt(3) > 0 || counts.getOrDefault(word, 0) == 0) {
+                trie.add(word, weight);
+                counts.merge(word, 1, Integer::sum);
+                weights.merge(word, weight, Long::sum);
+            } else {
+                // 실제 색인처럼 더했던 가중치만큼만 뺀다.
+                long removed = counts.get(word) == 1 ? weights.get(word) : Math.min(weight, weights.get(word));
+                trie.remove(word, removed);
+                counts.merge(word, -1, Integer::sum);
+                weights.merge(word, -removed, Long::sum);
+            }
+
+            // when
+            for (String prefix : List.of("s", "sp", "spa", "st")) {
+                List<Suggestion> suggestions = trie.suggest(prefix, 3);
+
+                // then
+                assertThat(suggestions).extracting(Suggestion::getText)
+                        .containsExactlyElementsOf(fullScan(weights, counts, prefix));
+            }
+        }
+    }
+
+    private List<String> fullScan(Map<String, Long> weights, Map<String, Integer> counts, String prefix) {
+        return counts.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() > 0 && entry.getKey().startsWith(prefix))
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.comparing((String word) -> weights.get(word)).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(3)
+                .collect(Collectors.toList());
+    }
+}
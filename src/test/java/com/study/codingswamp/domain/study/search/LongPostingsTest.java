@@ -0,0 +1,54 @@
+package com.study.codingswamp.domain.study.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongPostingsTest {
+
+    @Test
+    @DisplayName("값은 중복 없이 오름차순으로 유지된다.")
+    void addAndRemove() {
+        // given
+        LongPostings postings = create(5, 1, 3, 3, 9);
+
+        // when
+        postings.remove(3);
+
+        // then
+        assertThat(postings.size()).isEqualTo(3);
+        assertThat(postings.get(0)).isEqualTo(1);
+        assertThat(postings.get(1)).isEqualTo(5);
+        assertThat(postings.get(2)).isEqualTo(9);
+        assertThat(postings.contains(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("두 posting 의 교집합과 합집합을 계산한다.")
+    void andOr() {
+        // given
+        LongPostings left = create(1, 2, 3, 4, 5);
+        LongPostings right = create(4, 5, 6, 7);
+
+        // when
+        LongPostings and = LongPostings.and(left, right);
+        LongPostings or = LongPostings.or(left, right);
+
+        // then
+        assertThat(and.size()).isEqualTo(2);
+        assertThat(and.get(0)).isEqualTo(4);
+        assertThat(and.get(1)).isEqualTo(5);
+        assertThat(or.size()).isEqualTo(7);
+        assertThat(or.get(0)).isEqualTo(1);
+        assertThat(or.get(6)).isEqualTo(7);
+    }
+
+    private LongPostings create(long... values) {
+        LongPostings postings = new LongPostings();
+        for (long value : values) {
+            postings.add(value);
+        }
+        return postings;
+    }
+}
@@ -0,0 +1,291 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.study.dto.request.SearchCondition;
+import com.study.codingswamp.domain.study.dto.response.AutocompleteResponse;
+import com.study.codingswamp.domain.study.dto.response.FacetsResponse;
+import com.study.codingswamp.domain.study.dto.response.TagFacetResponse;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.entity.StudyStatus;
+import com.study.codingswamp.domain.study.entity.StudyType;
+import com.study.codingswamp.domain.study.entity.Tag;
+import com.study.codingswamp.domain.study.search.tokenizer.NGramTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class StudySearchIndexTest {
+
+    private StudySearchIndex studySearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        studySearchIndex = new StudySearchIndex(new NGramTokenizer());
+    }
+
+    @Test
+    @DisplayName("제목의 단어 접두어로 검색하고, 설명에만 있는 단어로는 검색되지 않는다.")
+    void searchByPrefix() {
+        // given
+        index(createStudy(1L, "자바 스터디", "스프링 공부합니다", StudyType.STUDY, "java"));
+        index(createStudy(2L, "모각코 모집", "같이 코딩해요", StudyType.MOGAKKO, "mogakko"));
+
+        // when
+        StudySearchResult byTitle = studySearchIndex.search(new SearchCondition(1, 8, "자바 스터", null, null, null, false, null));
+        StudySearchResult byDescription = studySearchIndex.search(new SearchCondition(1, 8, "코딩", null, null, null, false, null));
+
+        // then
+        assertThat(byTitle.getStudyIds()).containsExactly(1L);
+        assertThat(byDescription.getStudyIds()).isEmpty();
+        assertThat(byDescription.getTotalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없는 한글 단어 중간의 부분 문자열로 검색할 수 있다.")
+    void searchKoreanInfix() {
+        // given
+        index(createStudy(1L, "강남모각코", "설명", StudyType.MOGAKKO, "mogakko"));
+        index(createStudy(2L, "자바스터디", "설명", StudyType.STUDY, "java"));
+
+        // when
+        StudySearchResult result = studySearchIndex.search(new SearchCondition(1, 8, "각코", null, null, null, false, null));
+
+        // then
+        assertThat(result.getStudyIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("긴 검색어는 tri-gram 이 모두 있어도 연속된 문자열이 아니면 검색되지 않는다.")
+    void searchLongWordVerified() {
+        // given
+        index(createStudy(1L, "가터디모 디모집나", "설명", StudyType.STUDY, "java"));
+        index(createStudy(2L, "스터디모집", "설명", StudyType.STUDY, "java"));
+
+        // when
+        StudySearchResult result = studySearchIndex.search(new SearchCondition(1, 8, "터디모집", null, null, null, false, null));
+
+        // then
+        assertThat(result.getStudyIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("검색 결과는 최신순으로 페이지 단위로 반환된다.")
+    void searchPaging() {
+        // given
+        for (long id = 1; id <= 20; id++) {
+            index(createStudy(id, "제목입니다. " + id, "설명입니다.", StudyType.STUDY, "태그1"));
+        }
+
+        // when
+        StudySearchResult result = studySearchIndex.search(new SearchCondition(2, 8, "제목", "STUDY", "태그", null, false, null));
+
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(20);
+        assertThat(result.getStudyIds()).containsExactly(12L, 11L, 10L, 9L, 8L, 7L, 6L, 5L);
+    }
+
+    @Test
+    @DisplayName("여러 태그를 ALL 이면 교집합, ANY 면 합집합으로 검색한다.")
+    void searchMultipleTags() {
+        // given
+        index(createStudy(1L, "스터디", "설명", StudyType.STUDY, "Java", "Spring"));
+        index(createStudy(2L, "스터디", "설명", StudyType.STUDY, "java"));
+        index(createStudy(3L, "스터디", "설명", StudyType.STUDY, "kotlin", "spring"));
+
+        // when
+        StudySearchResult all = studySearchIndex.search(new SearchCondition(1, 8, null, null, "java, spring", "ALL", false, null));
+        StudySearchResult any = studySearchIndex.search(new SearchCondition(1, 8, null, null, "java,spring", "ANY", false, null));
+
+        // then
+        assertThat(all.getStudyIds()).containsExactly(1L);
+        assertThat(any.getStudyIds()).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("수정되거나 삭제된 스터디는 이전 내용으로 검색되지 않는다.")
+    void reindexAndRemove() {
+        // given
+        Study study = createStudy(1L, "자바 스터디", "설명", StudyType.STUDY, "java");
+        index(study);
+        index(createStudy(1L, "파이썬 스터디", "설명", StudyType.STUDY, "python"));
+        index(createStudy(2L, "자바 모각코", "설명", StudyType.MOGAKKO, "java"));
+
+        // when
+        studySearchIndex.remove(2L);
+
+        // then
+        assertThat(studySearchIndex.search(new SearchCondition(1, 8, "자바", null, null, null, false, null)).getTotalCount()).isZero();
+        assertThat(studySearchIndex.search(new SearchCondition(1, 8, null, null, "java", null, false, null)).getTotalCount()).isZero();
+        assertThat(studySearchIndex.search(new SearchCondition(1, 8, "파이썬", null, "py", null, false, null)).getStudyIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("전체, 타입별, 상태별, 태그별 개수를 색인 변경과 함께 유지하여 조건 없는 검색의 facet 으로 쓴다.")
+    void counters() {
+        // given
+        index(createStudy(1L, "자바 스터디", "설명", StudyType.STUDY, "java"));
+        index(createStudy(2L, "자바 모각코", "설명", StudyType.MOGAKKO, "java"));
+        Study study = createStudy(3L, "스프링 스터디", "설명", StudyType.STUDY, "spring");
+        index(study);
+
+        // when
+        ReflectionTestUtils.setField(study, "studyStatus", StudyStatus.ONGOING);
+        index(study);
+        studySearchIndex.remove(2L);
+
+        StudySearchResult result = studySearchIndex.search(new SearchCondition(1, 8, null, null, null, null, false, null));
+
+        // then
+        assertThat(studySearchIndex.count()).isEqualTo(2);
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.getFacets().getStudyTypes()).containsOnly(entry(StudyType.STUDY, 2L));
+        assertThat(result.getFacets().getStudyStatuses())
+                .containsOnly(entry(StudyStatus.PREPARING, 1L), entry(StudyStatus.ONGOING, 1L));
+        assertThat(result.getFacets().getTags()).extracting(TagFacetResponse::getTagText).containsExactly("java", "spring");
+        assertThat(result.getFacets().getTags()).extracting(TagFacetResponse::getCount).containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("개수 추정 검색은 요청한 페이지까지만 매칭하고 전체 개수를 추정하며, facet 은 비워서 반환한다.")
+    void searchApproximately() {
+        // given
+        for (long id = 1; id <= 20; id++) {
+            String title = id % 4 == 0 ? "자바 스터디" : "파이썬 스터디";
+            StudyType studyType = id % 2 == 0 ? StudyType.STUDY : StudyType.MOGAKKO;
+            index(createStudy(id, title, "설명", studyType, "tag"));
+        }
+
+        // when
+        StudySearchResult approximate = studySearchIndex.search(new SearchCondition(1, 2, "자바", "STUDY", null, null, true, null));
+        StudySearchResult lastPage = studySearchIndex.search(new SearchCondition(3, 2, "자바", "STUDY", null, null, true, null));
+        StudySearchResult exact = studySearchIndex.search(new SearchCondition(1, 2, "자바", "STUDY", null, null, false, null));
+
+        // then
+        assertThat(approximate.getStudyIds()).containsExactly(20L, 16L);
+        assertThat(approximate.getTotalCount()).isEqualTo(5);
+        assertThat(lastPage.getStudyIds()).containsExactly(4L);
+        assertThat(lastPage.getTotalCount()).isEqualTo(5);
+        assertThat(exact.getStudyIds()).isEqualTo(approximate.getStudyIds());
+        assertThat(approximate.getFacets().getStudyTypes()).isEmpty();
+        assertThat(approximate.getFacets().getStudyStatuses()).isEmpty();
+        assertThat(approximate.getFacets().getTags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 결과의 타입별, 상태별, 태그별 facet 을 함께 반환한다.")
+    void searchWithFacets() {
+        // given
+        index(createStudy(1L, "자바 스터디", "설명", StudyType.STUDY, "Java", "spring"));
+        index(createStudy(2L, "자바 모각코", "설명", StudyType.MOGAKKO, "java"));
+        index(createStudy(3L, "파이썬 스터디", "설명", StudyType.STUDY, "python"));
+
+        // when
+        FacetsResponse facets = studySearchIndex.search(new SearchCondition(1, 8, "자바", null, null, null, false, null)).getFacets();
+
+        // then
+        assertThat(facets.getStudyTypes()).containsEntry(StudyType.STUDY, 1L).containsEntry(StudyType.MOGAKKO, 1L);
+        assertThat(facets.getStudyStatuses()).containsOnly(entry(StudyStatus.PREPARING, 2L));
+        assertThat(facets.getTags()).extracting(TagFacetResponse::getTagText).containsExactly("java", "spring");
+        assertThat(facets.getTags()).extracting(TagFacetResponse::getCount).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("제목 단어는 현재 인원, 태그는 사용 수가 많은 순으로 자동완성한다.")
+    void autocomplete() {
+        // given
+        Study popular = createStudy(1L, "스프링 부트", "설명", StudyType.STUDY, "spring");
+        ReflectionTestUtils.setField(popular, "currentMemberCount", 10);
+        index(popular);
+        index(createStudy(2L, "스터디 모집", "설명", StudyType.STUDY, "spring", "sql"));
+        index(createStudy(3L, "스칼라", "설명", StudyType.STUDY, "scala"));
+        studySearchIndex.remove(3L);
+
+        // when
+        AutocompleteResponse titles = studySearchIndex.autocomplete("스", 10);
+        AutocompleteResponse tags = studySearchIndex.autocomplete("S", 10);
+
+        // then
+        assertThat(titles.getTitles()).extracting(Suggestion::getText).containsExactly("스프링", "스터디");
+        assertThat(tags.getTags()).extracting(Suggestion::getText).containsExactly("spring", "sql");
+        assertThat(tags.getTags()).extracting(Suggestion::getScore).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("관련도순 정렬은 제목 매칭에 가중치를 둔 BM25 점수 순으로 반환한다.")
+    void searchByRelevance() {
+        // given
+        index(createStudy(1L, "스프링 공부", "자바", StudyType.STUDY, "java"));
+        index(createStudy(2L, "자바 스터디", "자바 스프링 같이 공부", StudyType.STUDY, "spring"));
+        index(createStudy(3L, "스프링 스프링", "설명", StudyType.STUDY, "spring"));
+
+        // when
+        StudySearchResult latest = studySearchIndex.search(new SearchCondition(1, 8, "스프링", null, null, null, false, "latest"));
+        StudySearchResult relevance = studySearchIndex.search(new SearchCondition(1, 8, "스프링", null, null, null, false, "relevance"));
+        StudySearchResult secondPage = studySearchIndex.search(new SearchCondition(2, 1, "스프링", null, null, null, false, "relevance"));
+
+        // then
+        assertThat(latest.getStudyIds()).containsExactly(3L, 1L);
+        assertThat(relevance.getStudyIds()).containsExactly(3L, 1L);
+        assertThat(relevance.getTotalCount()).isEqualTo(2);
+        assertThat(secondPage.getStudyIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("준비 중에 지운 스터디는 그 전에 읽어 둔 초기 적재 묶음으로 다시 들어오지 않는다.")
+    void loadAfterRemoveWhileLoading() {
+        // given
+        StudySearchIndex loadingIndex = new StudySearchIndex(new NGramTokenizer());
+        Study deleted = createStudy(1L, "자바 스터디", "설명", StudyType.STUDY, "java");
+        Study remaining = createStudy(2L, "자바 모각코", "설명", StudyType.MOGAKKO, "java");
+        List<StudyDocument> staleBatch = List.of(document(deleted), document(remaining));
+
+        // when
+        loadingIndex.remove(deleted.getId());
+        staleBatch.forEach(loadingIndex::load);
+        loadingIndex.markReady();
+
+        // then
+        assertThat(loadingIndex.search(new SearchCondition(1, 8, "자바", null, null, null, false, null)).getStudyIds())
+                .containsExactly(2L);
+        assertThat(loadingIndex.count()).isEqualTo(1);
+    }
+
+    private StudyDocument document(Study study) {
+        return StudyDocument.of(study, study.getTags()
+                .stream()
+                .map(Tag::getTagText)
+                .collect(Collectors.toList()));
+    }
+
+    private void index(Study study) {
+        studySearchIndex.index(document(study));
+    }
+
+    private Study createStudy(Long id, String title, String description, StudyType studyType, String... tags) {
+        Study study = Study.builder()
+                .title(title)
+                .description(description)
+                .studyStatus(StudyStatus.PREPARING)
+                .studyType(studyType)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .currentMemberCount(1)
+                .maxMemberCount(30)
+                .thumbnail("#00000")
+                .applicants(new HashSet<>())
+                .participants(new HashSet<>())
+                .tags(Arrays.stream(tags).map(Tag::new).collect(Collectors.toList()))
+                .build();
+        ReflectionTestUtils.setField(study, "id", id);
+        return study;
+    }
+}
@@ -0,0 +1,128 @@
+package com.study.codingswamp.domain.study.search;
+
+import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.dto.request.SearchCondition;
+import com.study.codingswamp.domain.study.dto.request.StudyRequest;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.service.StudyService;
+import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 시점의 동작을 확인해야 하므로 테스트 트랜잭션 없이 커밋하고, 끝나면 만든 데이터를 직접 지운다.
+ */
+@SpringBootTest
+class StudySearchIndexUpdaterTest {
+
+    @Autowired
+    private StudyService studyService;
+    @Autowired
+    private StudySearchIndex studySearchIndex;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long ownerId;
+    private Long studyId;
+
+    @AfterEach
+    void tearDown() {
+        if (studyId != null) {
+            studyService.delete(ownerId, studyId);
+        }
+        if (ownerId != null) {
+            jdbcTemplate.update("delete from member where member_id = ?", ownerId);
+        }
+    }
+
+    @Test
+    @DisplayName("커밋되기 전의 스터디는 flush 되어도 검색되지 않고, 커밋된 뒤에 검색된다.")
+    void indexAfterCommit() {
+        // given
+        ownerId = memberRepository.save(MemberFixture.create(true)).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        Long beforeCommitCount = transactionTemplate.execute(status -> {
+            studyId = studyService.createStudy(ownerId, createRequest("커밋확인스터디")).getId();
+            entityManager.flush();
+            return search("커밋확인스터디");
+        });
+
+        // then
+        assertThat(beforeCommitCount).isZero();
+        assertThat(search("커밋확인스터디")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤백된 수정은 색인에 반영되지 않는다.")
+    void rollbackNotIndexed() {
+        // given
+        ownerId = memberRepository.save(MemberFixture.create(true)).getId();
+        Study study = studyService.createStudy(ownerId, createRequest("롤백전스터디"));
+        studyId = study.getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            studyService.edit(ownerId, studyId, createRequest("롤백후스터디"));
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(search("롤백전스터디")).isEqualTo(1);
+        assertThat(search("롤백후스터디")).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제가 커밋되면 색인에서 빠진다.")
+    void removeAfterCommit() {
+        // given
+        ownerId = memberRepository.save(MemberFixture.create(true)).getId();
+        Long createdStudyId = studyService.createStudy(ownerId, createRequest("삭제확인스터디")).getId();
+
+        // when
+        studyService.delete(ownerId, createdStudyId);
+
+        // then
+        assertThat(search("삭제확인스터디")).isZero();
+    }
+
+    private long search(String title) {
+        return studySearchIndex.search(new SearchCondition(1, 8, title, null, null, null, false, null))
+                .getTotalCount();
+    }
+
+    private StudyRequest createRequest(String title) {
+        return StudyRequest.builder()
+                .title(title)
+                .description("설명입니다.")
+                .studyType("STUDY")
+                .thumbnail("#000000")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .maxMemberCount(30)
+                .tags(List.of("태그1"))
+                .build();
+    }
+}
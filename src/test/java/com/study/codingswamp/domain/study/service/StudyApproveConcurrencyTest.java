@@ -0,0 +1,190 @@
+package com.study.codingswamp.domain.study.service;
+
+import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.repository.ApplicantRepository;
+import com.study.codingswamp.domain.study.repository.ParticipantRepository;
+import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.exception.ConflictException;
+import com.study.codingswamp.util.fixture.dto.study.StudyRequestFixture;
+import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
+import com.study.codingswamp.util.fixture.entity.study.ApplicantFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 트랜잭션이 실제로 경쟁해야 하므로 테스트 트랜잭션 없이 커밋하고, 끝나면 만든 데이터를 직접 지운다.
+ */
+@SpringBootTest
+class StudyApproveConcurrencyTest {
+
+    private static final int APPLICANT_COUNT = 200;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private StudyService studyService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private ApplicantRepository applicantRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long studyId;
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (studyId != null) {
+            jdbcTemplate.update("delete from applicant where study_id = ?", studyId);
+            jdbcTemplate.update("delete from participant where study_id = ?", studyId);
+            studyRepository.deleteById(studyId);
+        }
+        memberIds.forEach(memberId -> jdbcTemplate.update("delete from member where member_id = ?", memberId));
+    }
+
+    @Test
+    @DisplayName("마지막 한 자리에 동시에 여러 명을 승인해도 한 명만 참가하고 정원을 넘지 않는다.")
+    void approveLastSeatConcurrently() throws InterruptedException {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create("owner@concurrency.com", "1q2w3e4r!", "owner"));
+        memberIds.add(owner.getId());
+        Study study = studyService.createStudy(owner.getId(), StudyRequestFixture.create(2));
+        studyId = study.getId();
+
+        List<Long> applicantIds = new ArrayList<>();
+        for (int i = 0; i < APPLICANT_COUNT; i++) {
+            Member applicantMember = memberRepository.save(
+                    MemberFixture.create("applicant" + i + "@concurrency.com", "1q2w3e4r!", "applicant" + i));
+            memberIds.add(applicantMember.getId());
+            applicantIds.add(applicantMember.getId());
+            applicantRepository.save(ApplicantFixture.create(study, applicantMember));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(APPLICANT_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+
+        // when
+        for (Long applicantId : applicantIds) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    studyService.approve(owner.getId(), studyId, applicantId);
+                    successCount.incrementAndGet();
+                } catch (ConflictException e) {
+                    conflictCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(conflictCount.get()).isEqualTo(APPLICANT_COUNT - 1);
+        assertThat(studyRepository.findCurrentMemberCount(studyId)).isEqualTo(2);
+        assertThat(participantRepository.countByStudyId(studyId)).isEqualTo(2);
+        assertThat(applicantRepository.countByStudyId(studyId)).isEqualTo(APPLICANT_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("스터디를 수정하는 동안 승인이 커밋되어도 수정이 인원 수를 덮어쓰지 않는다.")
+    void editDoesNotOverwriteApprovedMemberCount() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create("owner@concurrency.com", "1q2w3e4r!", "owner"));
+        memberIds.add(owner.getId());
+        Study study = studyService.createStudy(owner.getId(), StudyRequestFixture.create(5));
+        studyId = study.getId();
+        Member applicantMember = memberRepository.save(
+                MemberFixture.create("applicant@concurrency.com", "1q2w3e4r!", "applicant"));
+        memberIds.add(applicantMember.getId());
+        applicantRepository.save(ApplicantFixture.create(study, applicantMember));
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Study loadedStudy = studyRepository.findById(studyId).orElseThrow();
+            approveInAnotherThread(owner.getId(), applicantMember.getId());
+            assertThat(loadedStudy.getCurrentMemberCount()).isEqualTo(1);
+            studyService.edit(owner.getId(), studyId, StudyRequestFixture.create(10));
+        });
+
+        // then
+        assertThat(studyRepository.findCurrentMemberCount(studyId)).isEqualTo(2);
+        assertThat(studyRepository.findById(studyId).get().getMaxMemberCount()).isEqualTo(10);
+        assertThat(participantRepository.countByStudyId(studyId)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "select current_member_count from study_card where study_id = ?", Integer.class, studyId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스터디를 수정하는 동안 승인이 커밋되면 승인된 인원보다 정원을 줄일 수 없다.")
+    void editCannotLowerMaxBelowApprovedMemberCount() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create("owner@concurrency.com", "1q2w3e4r!", "owner"));
+        memberIds.add(owner.getId());
+        Study study = studyService.createStudy(owner.getId(), StudyRequestFixture.create(2));
+        studyId = study.getId();
+        Member applicantMember = memberRepository.save(
+                MemberFixture.create("applicant@concurrency.com", "1q2w3e4r!", "applicant"));
+        memberIds.add(applicantMember.getId());
+        applicantRepository.save(ApplicantFixture.create(study, applicantMember));
+
+        // expected
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Study loadedStudy = studyRepository.findById(studyId).orElseThrow();
+            approveInAnotherThread(owner.getId(), applicantMember.getId());
+            assertThat(loadedStudy.getCurrentMemberCount()).isEqualTo(1);
+            studyService.edit(owner.getId(), studyId, StudyRequestFixture.create(1));
+        })).isInstanceOf(ConflictException.class);
+        assertThat(studyRepository.findCurrentMemberCount(studyId)).isEqualTo(2);
+        assertThat(studyRepository.findById(studyId).get().getMaxMemberCount()).isEqualTo(2);
+    }
+
+    /**
+     * 바깥 트랜잭션이 스터디를 읽기만 한 상태에서 다른 트랜잭션의 승인을 커밋시킨다.
+     */
+    private void approveInAnotherThread(Long ownerId, Long applicantId) {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.submit(() -> studyService.approve(ownerId, studyId, applicantId))
+                    .get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
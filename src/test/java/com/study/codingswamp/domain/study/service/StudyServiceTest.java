@@ -2,36 +2,62 @@ package com.study.codingswamp.domain.study.service;
 
 import com.study.codingswamp.domain.member.entity.Member;
 import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.dto.request.ApplicantDecisionRequest;
 import com.study.codingswamp.domain.study.dto.request.ApplyRequest;
+import com.study.codingswamp.domain.study.dto.request.CursorRequest;
+import com.study.codingswamp.domain.study.dto.request.FieldSelection;
 import com.study.codingswamp.domain.study.dto.request.SearchCondition;
 import com.study.codingswamp.domain.study.dto.request.StudiesPageableRequest;
 import com.study.codingswamp.domain.study.dto.request.StudyRequest;
+import com.study.codingswamp.domain.study.dto.response.ApplicantResponse;
+import com.study.codingswamp.domain.study.dto.response.PageCursor;
+import com.study.codingswamp.domain.study.dto.response.ParticipantResponse;
 import com.study.codingswamp.domain.study.dto.response.StudiesResponse;
 import com.study.codingswamp.domain.study.dto.response.StudyDetailResponse;
+import com.study.codingswamp.domain.study.dto.response.StudyResponse;
 import com.study.codingswamp.domain.study.entity.*;
 import com.study.codingswamp.domain.study.repository.ApplicantRepository;
 import com.study.codingswamp.domain.study.repository.ParticipantRepository;
+import com.study.codingswamp.domain.study.repository.ReviewRepository;
+import com.study.codingswamp.domain.study.repository.StudyCardRepository;
 import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.domain.study.repository.WaitingApplicantRepository;
+import com.study.codingswamp.domain.study.search.StudySearchIndex;
+import com.study.codingswamp.domain.study.search.tokenizer.NGramTokenizer;
 import com.study.codingswamp.exception.ConflictException;
 import com.study.codingswamp.exception.ForbiddenException;
+import com.study.codingswamp.exception.InvalidRequestException;
 import com.study.codingswamp.exception.NotFoundException;
+import com.study.codingswamp.exception.ServiceUnavailableException;
+import com.study.codingswamp.util.fixture.dto.study.ApplicantDecisionRequestFixture;
 import com.study.codingswamp.util.fixture.dto.study.ApplyRequestFixture;
 import com.study.codingswamp.util.fixture.dto.study.StudyRequestFixture;
 import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
 import com.study.codingswamp.util.fixture.entity.study.ApplicantFixture;
+import com.study.codingswamp.util.fixture.entity.study.CommittedStudyFixture;
 import com.study.codingswamp.util.fixture.entity.study.ParticipantFixture;
 import com.study.codingswamp.util.fixture.entity.study.StudyFixture;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -47,15 +73,33 @@ class StudyServiceTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
     @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
     private StudyRepository studyRepository;
     @Autowired
     private ApplicantRepository applicantRepository;
     @Autowired
     private ParticipantRepository participantRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private WaitingApplicantRepository waitingApplicantRepository;
+    @Autowired
+    private StudyCardRepository studyCardRepository;
+
+    private CommittedStudyFixture committedStudyFixture;
 
     @BeforeEach
     void clear() {
         jdbcTemplate.update("alter table study auto_increment= ?", 1);
+        committedStudyFixture = new CommittedStudyFixture(transactionManager, memberRepository, studyRepository, jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        committedStudyFixture.clear();
     }
 
     @Test
@@ -112,6 +156,161 @@ class StudyServiceTest {
         assertThat(response.getTags().size()).isEqualTo(study.getTags().size());
     }
 
+    @Test
+    @DisplayName("스터디 상세 조회는 참가자와 신청자 수와 관계없이 정해진 수의 쿼리로 가져온다.")
+    void getStudyDetailQueryCount() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(owner.getId(), StudyRequestFixture.create());
+        for (int i = 0; i < 10; i++) {
+            Member participantMember = memberRepository.save(
+                    MemberFixture.create("participant" + i + "@gmail.com", "1q2w3e4r!", "participant" + i));
+            participantRepository.save(ParticipantFixture.create(participantMember, study));
+            Member applicantMember = memberRepository.save(
+                    MemberFixture.create("applicant" + i + "@gmail.com", "1q2w3e4r!", "applicant" + i));
+            applicantRepository.save(ApplicantFixture.create(study, applicantMember));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        StudyDetailResponse response = studyService.getStudyDetails(study.getId());
+
+        // then
+        assertThat(response.getParticipants().size()).isEqualTo(11);
+        assertThat(response.getApplicants().size()).isEqualTo(10);
+        assertThat(response.getTags()).containsExactlyInAnyOrder("태그1", "태그2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("스터디 참가자와 신청자를 커서로 나누어 가져온다.")
+    void getParticipantsAndApplicants() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(owner.getId(), StudyRequestFixture.create());
+        for (int i = 0; i < 5; i++) {
+            Member participantMember = memberRepository.save(
+                    MemberFixture.create("participant" + i + "@gmail.com", "1q2w3e4r!", "participant" + i));
+            participantRepository.save(ParticipantFixture.create(participantMember, study));
+            Member applicantMember = memberRepository.save(
+                    MemberFixture.create("applicant" + i + "@gmail.com", "1q2w3e4r!", "applicant" + i));
+            applicantRepository.save(ApplicantFixture.create(study, applicantMember));
+        }
+
+        // when
+        PageCursor<ParticipantResponse> firstParticipants = studyService.getParticipants(study.getId(), new CursorRequest(null, 4));
+        PageCursor<ParticipantResponse> nextParticipants = studyService.getParticipants(study.getId(), firstParticipants.getNextCursorRequest());
+        PageCursor<ApplicantResponse> applicants = studyService.getApplicants(study.getId(), new CursorRequest(null, 8));
+
+        // then
+        assertThat(firstParticipants.getBody()).extracting(ParticipantResponse::getUsername)
+                .containsExactly("participant4", "participant3", "participant2", "participant1");
+        assertThat(nextParticipants.getBody()).extracting(ParticipantResponse::getUsername)
+                .containsExactly("participant0", "hong");
+        assertThat(applicants.getBody().size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("스터디 상세를 인원 수만 담아 가져온다.")
+    void getStudySummary() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(owner.getId(), StudyRequestFixture.create());
+        Member applicantMember = memberRepository.save(MemberFixture.createGithubMember());
+        applicantRepository.save(ApplicantFixture.create(study, applicantMember));
+
+        // when
+        StudyDetailResponse response = studyService.getStudySummary(study.getId());
+
+        // then
+        assertThat(response.getParticipantCount()).isEqualTo(1);
+        assertThat(response.getApplicantCount()).isEqualTo(1);
+        assertThat(response.getParticipants()).isNull();
+        assertThat(response.getApplicants()).isNull();
+        assertThat(response.getOwner().getMemberId()).isEqualTo(owner.getId());
+    }
+
+    @Test
+    @DisplayName("스터디 상세에서 요청한 필드만 조회한다.")
+    void getStudyDetailsWithFields() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(owner.getId(), StudyRequestFixture.create());
+        Member applicantMember = memberRepository.save(MemberFixture.createGithubMember());
+        applicantRepository.save(ApplicantFixture.create(study, applicantMember));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        StudyDetailResponse cardOnly = studyService.getStudyDetails(
+                study.getId(), FieldSelection.of("title,thumbnail,studyStatus", FieldSelection.STUDY_DETAIL_FIELDS));
+        long cardOnlyStatementCount = statistics.getPrepareStatementCount();
+        StudyDetailResponse withOwner = studyService.getStudyDetails(
+                study.getId(), FieldSelection.of("owner,applicantCount", FieldSelection.STUDY_DETAIL_FIELDS));
+
+        // then
+        assertThat(cardOnly.getTitle()).isEqualTo(study.getTitle());
+        assertThat(cardOnly.getDescription()).isNull();
+        assertThat(cardOnly.getOwner()).isNull();
+        assertThat(cardOnly.getParticipants()).isNull();
+        assertThat(cardOnlyStatementCount).isEqualTo(1);
+        assertThat(withOwner.getOwner().getMemberId()).isEqualTo(owner.getId());
+        assertThat(withOwner.getApplicantCount()).isEqualTo(1);
+        assertThat(withOwner.getApplicants()).isNull();
+    }
+
+    @Test
+    @DisplayName("목록 카드의 태그가 컬럼 길이에 맞춰 잘렸으면 필드 선택 조회는 전체 태그를 다시 읽는다.")
+    void getStudyDetailsWithTruncatedCardTags() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.create(true));
+        List<String> tagTexts = IntStream.range(0, 300)
+                .mapToObj(index -> "태그" + index + "가".repeat(20))
+                .collect(Collectors.toList());
+        StudyRequest request = StudyRequest.builder()
+                .title("제목입니다.")
+                .description("설명입니다.")
+                .studyType("STUDY")
+                .thumbnail("#000000")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .maxMemberCount(30)
+                .tags(tagTexts)
+                .build();
+        Study study = studyService.createStudy(owner.getId(), request);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        StudyCard studyCard = studyCardRepository.findById(study.getId()).orElseThrow();
+        StudyDetailResponse response = studyService.getStudyDetails(
+                study.getId(), FieldSelection.of("tags", FieldSelection.STUDY_DETAIL_FIELDS));
+
+        // then
+        assertThat(studyCard.isTagsTruncated()).isTrue();
+        assertThat(studyCard.getTagTexts()).hasSizeLessThan(300);
+        assertThat(response.getTags()).containsExactlyInAnyOrderElementsOf(tagTexts);
+    }
+
+    @Test
+    @DisplayName("선택할 수 없는 필드를 요청하면 예외가 발생한다.")
+    void getStudyDetailsWithUnknownField() {
+        // expected
+        assertThrows(
+                InvalidRequestException.class,
+                () -> FieldSelection.of("title,password", FieldSelection.STUDY_DETAIL_FIELDS)
+        );
+    }
+
     @Test
     @DisplayName("스터디 상세 단건 가져올시 스터디가 없는 경우")
     void getStudyDetailNotFoundStudy() {
@@ -141,7 +340,27 @@ class StudyServiceTest {
     }
 
     @Test
-    @DisplayName("최대 정원인 스터디에 지원할 경우 error가 발생한다.")
+    @DisplayName("스터디 참가 신청을 하면 캐시된 스터디 상세도 갱신된다.")
+    void applyInvalidatesStudyDetail() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        StudyDetailResponse before = studyService.getStudyDetails(study.getId());
+
+        Member applicantMember = memberRepository.save(MemberFixture.createGithubMember());
+
+        // when
+        studyService.apply(applicantMember.getId(), study.getId(), ApplyRequestFixture.create());
+        StudyDetailResponse after = studyService.getStudyDetails(study.getId());
+
+        // then
+        assertThat(studyService.getStudyDetails(study.getId())).isSameAs(after);
+        assertThat(before.getApplicants()).isEmpty();
+        assertThat(after.getApplicants().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 정원인 스터디에 지원하면 신청자가 아니라 대기자가 되고, 다시 지원하면 error가 발생한다.")
     void applyWhenMaxMemberCount() {
         // given
         Member studyOwner = memberRepository.save(MemberFixture.create(true));;
@@ -151,13 +370,242 @@ class StudyServiceTest {
         Member applicantMember = memberRepository.save(MemberFixture.createGithubMember());;
         ApplyRequest applyRequest = ApplyRequestFixture.create();
 
-        // expected
+        // when
+        studyService.apply(applicantMember.getId(), study.getId(), applyRequest);
+
+        // then
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(study.getId(), applicantMember.getId())).isFalse();
+        assertThat(waitingApplicantRepository.existsByStudyIdAndMemberId(study.getId(), applicantMember.getId())).isTrue();
         assertThrows(
                 ConflictException.class,
                 () -> studyService.apply(applicantMember.getId(), study.getId(), applyRequest)
         );
     }
 
+    @Test
+    @DisplayName("탈퇴와 강퇴는 인원 수와 목록 카드의 인원 수를 함께 줄인다.")
+    void decreaseCurrentMemberCount() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Member withdrawn = memberRepository.save(MemberFixture.create("withdrawn@gmail.com", "1q2w3e4r!", "withdrawn"));
+        Member kicked = memberRepository.save(MemberFixture.create("kicked@gmail.com", "1q2w3e4r!", "kicked"));
+        studyService.apply(withdrawn.getId(), study.getId(), ApplyRequestFixture.create());
+        studyService.approve(studyOwner.getId(), study.getId(), withdrawn.getId());
+        studyService.apply(kicked.getId(), study.getId(), ApplyRequestFixture.create());
+        studyService.approve(studyOwner.getId(), study.getId(), kicked.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        studyService.withdraw(withdrawn.getId(), study.getId());
+        studyService.kickParticipant(studyOwner.getId(), study.getId(), kicked.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(studyRepository.findCurrentMemberCount(study.getId())).isEqualTo(1);
+        assertThat(studyCardRepository.findById(study.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인원 수 재계산은 참가자 수와 어긋난 스터디와 목록 카드를 고친다.")
+    void reconcileMemberCounts() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study drifted = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Study consistent = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        for (int i = 0; i < 2; i++) {
+            Member member = memberRepository.save(MemberFixture.create("participant" + i + "@gmail.com", "1q2w3e4r!", "participant" + i));
+            participantRepository.save(ParticipantFixture.create(member, drifted));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Long lastStudyId = 0L;
+        while (lastStudyId != null) {
+            lastStudyId = studyService.reconcileMemberCounts(lastStudyId, 1);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(studyRepository.findCurrentMemberCount(drifted.getId())).isEqualTo(3);
+        assertThat(studyCardRepository.findById(drifted.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(3);
+        assertThat(studyRepository.findCurrentMemberCount(consistent.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인원 수 재계산은 목록 카드가 없는 스터디의 카드를 다시 만든다.")
+    void reconcileMissingStudyCard() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Member member = memberRepository.save(MemberFixture.create("participant@gmail.com", "1q2w3e4r!", "participant"));
+        participantRepository.save(ParticipantFixture.create(member, study));
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.update("update study set current_member_count = 2 where study_id = ?", study.getId());
+        jdbcTemplate.update("delete from study_card where study_id = ?", study.getId());
+
+        // when
+        Long lastStudyId = 0L;
+        while (lastStudyId != null) {
+            lastStudyId = studyService.reconcileMemberCounts(lastStudyId, 1);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        StudyCard studyCard = studyCardRepository.findById(study.getId()).orElseThrow();
+        assertThat(studyCard.getCurrentMemberCount()).isEqualTo(2);
+        assertThat(studyCard.getTitle()).isEqualTo(study.getTitle());
+        assertThat(studyCard.getTagTexts()).containsExactlyInAnyOrder("태그1", "태그2");
+    }
+
+    @Test
+    @DisplayName("참가자가 탈퇴하거나 강퇴되면 빈 자리만큼 먼저 대기한 순서대로 신청자가 되고 인원 수는 그대로다.")
+    void moveWaitingApplicantToApplicant() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create(2));
+        Member participant = memberRepository.save(MemberFixture.create("participant@gmail.com", "1q2w3e4r!", "participant"));
+        studyService.apply(participant.getId(), study.getId(), ApplyRequestFixture.create());
+        studyService.approve(studyOwner.getId(), study.getId(), participant.getId());
+        Member first = memberRepository.save(MemberFixture.create("first@gmail.com", "1q2w3e4r!", "first"));
+        Member second = memberRepository.save(MemberFixture.create("second@gmail.com", "1q2w3e4r!", "second"));
+        studyService.apply(first.getId(), study.getId(), ApplyRequestFixture.create());
+        studyService.apply(second.getId(), study.getId(), ApplyRequestFixture.create());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        studyService.withdraw(participant.getId(), study.getId());
+        entityManager.flush();
+        boolean firstMoved = applicantRepository.existsByStudyIdAndMemberId(study.getId(), first.getId());
+        boolean firstParticipated = participantRepository.existsByStudyIdAndMemberId(study.getId(), first.getId());
+        boolean secondMovedAfterWithdraw = applicantRepository.existsByStudyIdAndMemberId(study.getId(), second.getId());
+        studyService.approve(studyOwner.getId(), study.getId(), first.getId());
+        studyService.kickParticipant(studyOwner.getId(), study.getId(), first.getId());
+        entityManager.flush();
+
+        // then
+        assertThat(firstMoved).isTrue();
+        assertThat(firstParticipated).isFalse();
+        assertThat(secondMovedAfterWithdraw).isFalse();
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(study.getId(), second.getId())).isTrue();
+        assertThat(participantRepository.existsByStudyIdAndMemberId(study.getId(), second.getId())).isFalse();
+        assertThat(waitingApplicantRepository.countByStudyId(study.getId())).isZero();
+        assertThat(participantRepository.countByStudyId(study.getId())).isEqualTo(1);
+        assertThat(studyRepository.findCurrentMemberCount(study.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기자가 신청자로 옮겨져도 먼저 신청한 신청자 뒤에 서고, 스터디장이 승인해야 참가자가 된다.")
+    void movedWaitingApplicantStandsBehindEarlierApplicant() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create(2));
+        Member participant = memberRepository.save(MemberFixture.create("participant@gmail.com", "1q2w3e4r!", "participant"));
+        Member earlier = memberRepository.save(MemberFixture.create("earlier@gmail.com", "1q2w3e4r!", "earlier"));
+        Member waiting = memberRepository.save(MemberFixture.create("waiting@gmail.com", "1q2w3e4r!", "waiting"));
+        studyService.apply(participant.getId(), study.getId(), ApplyRequestFixture.create());
+        studyService.apply(earlier.getId(), study.getId(), ApplyRequestFixture.create());
+        studyService.approve(studyOwner.getId(), study.getId(), participant.getId());
+        boolean waited = studyService.apply(waiting.getId(), study.getId(), ApplyRequestFixture.create());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        studyService.withdraw(participant.getId(), study.getId());
+        entityManager.flush();
+        Applicant earlierApplicant = applicantRepository.findByStudyIdAndMemberId(study.getId(), earlier.getId()).orElseThrow();
+        Applicant movedApplicant = applicantRepository.findByStudyIdAndMemberId(study.getId(), waiting.getId()).orElseThrow();
+        studyService.approve(studyOwner.getId(), study.getId(), earlier.getId());
+
+        // then
+        assertThat(waited).isTrue();
+        assertThat(movedApplicant.getId()).isGreaterThan(earlierApplicant.getId());
+        assertThrows(ConflictException.class,
+                () -> studyService.approve(studyOwner.getId(), study.getId(), waiting.getId()));
+        assertThat(participantRepository.existsByStudyIdAndMemberId(study.getId(), earlier.getId())).isTrue();
+        assertThat(participantRepository.existsByStudyIdAndMemberId(study.getId(), waiting.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기자가 남아 있어도 자리가 있으면 새 신청자는 대기자 명단이 아니라 신청자가 된다.")
+    void applyWhileWaitingApplicantRemains() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create(2));
+        Member waiting = memberRepository.save(MemberFixture.create("waiting@gmail.com", "1q2w3e4r!", "waiting"));
+        waitingApplicantRepository.save(new WaitingApplicant(study, waiting, "지원 동기", LocalDate.now()));
+        Member applicantMember = memberRepository.save(MemberFixture.createGithubMember());
+
+        // when
+        boolean waited = studyService.apply(applicantMember.getId(), study.getId(), ApplyRequestFixture.create());
+
+        // then
+        assertThat(waited).isFalse();
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(study.getId(), applicantMember.getId())).isTrue();
+        assertThat(studyService.getMyWaitings(applicantMember.getId()).getStudyResponses()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정원을 늘리면 늘어난 자리만큼 대기 순서대로 신청자가 되고 인원 수는 그대로다.")
+    void moveWaitingApplicantsWhenMaxMemberCountIncreases() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create(1));
+        List<Member> waitings = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Member member = memberRepository.save(MemberFixture.create("waiting" + i + "@gmail.com", "1q2w3e4r!", "waiting" + i));
+            studyService.apply(member.getId(), study.getId(), ApplyRequestFixture.create());
+            waitings.add(member);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        studyService.edit(studyOwner.getId(), study.getId(), StudyRequestFixture.create(3));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(study.getId(), waitings.get(0).getId())).isTrue();
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(study.getId(), waitings.get(1).getId())).isTrue();
+        assertThat(waitingApplicantRepository.existsByStudyIdAndMemberId(study.getId(), waitings.get(2).getId())).isTrue();
+        assertThat(participantRepository.countByStudyId(study.getId())).isEqualTo(1);
+        assertThat(studyRepository.findCurrentMemberCount(study.getId())).isEqualTo(1);
+        assertThat(studyCardRepository.findById(study.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인원 수가 이미 0 으로 어긋나 있으면 참가자가 빠져도 대기자를 신청자로 옮기지 않는다.")
+    void notMoveWhenNoSeatFreed() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create(2));
+        Member participant = memberRepository.save(MemberFixture.create("participant@gmail.com", "1q2w3e4r!", "participant"));
+        studyService.apply(participant.getId(), study.getId(), ApplyRequestFixture.create());
+        studyService.approve(studyOwner.getId(), study.getId(), participant.getId());
+        Member waiting = memberRepository.save(MemberFixture.create("waiting@gmail.com", "1q2w3e4r!", "waiting"));
+        studyService.apply(waiting.getId(), study.getId(), ApplyRequestFixture.create());
+        entityManager.flush();
+        jdbcTemplate.update("update study set current_member_count = 0 where study_id = ?", study.getId());
+        entityManager.clear();
+
+        // when
+        studyService.withdraw(participant.getId(), study.getId());
+        entityManager.flush();
+
+        // then
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(study.getId(), waiting.getId())).isFalse();
+        assertThat(waitingApplicantRepository.existsByStudyIdAndMemberId(study.getId(), waiting.getId())).isTrue();
+        assertThat(studyRepository.findCurrentMemberCount(study.getId())).isZero();
+    }
+
     @Test
     @DisplayName("같은 곳에 두 번 지원하는 경우 error를 발생한다.")
     void applyTwice() {
@@ -213,6 +661,107 @@ class StudyServiceTest {
         assertThat(study.getParticipants().size()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("스터디장은 여러 신청자를 한 번에 승인하고 거절할 수 있다.")
+    void decideApplicants() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create(3));
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Member member = memberRepository.save(MemberFixture.create("applicant" + i + "@gmail.com", "1q2w3e4r!", "applicant" + i));
+            applicantRepository.save(ApplicantFixture.create(study, member));
+            memberIds.add(member.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ApplicantDecisionRequest request = ApplicantDecisionRequestFixture.create(
+                List.of(memberIds.get(0), memberIds.get(1)), List.of(memberIds.get(2))
+        );
+
+        // when
+        studyService.decideApplicants(studyOwner.getId(), study.getId(), request);
+
+        // then
+        assertThat(studyRepository.findCurrentMemberCount(study.getId())).isEqualTo(3);
+        assertThat(participantRepository.countByStudyId(study.getId())).isEqualTo(3);
+        assertThat(participantRepository.existsByStudyIdAndMemberId(study.getId(), memberIds.get(1))).isTrue();
+        assertThat(applicantRepository.countByStudyId(study.getId())).isEqualTo(1);
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(study.getId(), memberIds.get(3))).isTrue();
+    }
+
+    @Test
+    @DisplayName("남은 정원보다 많이 승인하면 아무도 승인하지 않고 예외가 발생한다.")
+    void decideApplicantsOverCapacity() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create(2));
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Member member = memberRepository.save(MemberFixture.create("applicant" + i + "@gmail.com", "1q2w3e4r!", "applicant" + i));
+            applicantRepository.save(ApplicantFixture.create(study, member));
+            memberIds.add(member.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ApplicantDecisionRequest request = ApplicantDecisionRequestFixture.create(memberIds, List.of());
+
+        // expected
+        assertThrows(
+                ConflictException.class,
+                () -> studyService.decideApplicants(studyOwner.getId(), study.getId(), request)
+        );
+        assertThat(studyRepository.findCurrentMemberCount(study.getId())).isEqualTo(1);
+        assertThat(participantRepository.countByStudyId(study.getId())).isEqualTo(1);
+        assertThat(applicantRepository.countByStudyId(study.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 신청자를 승인과 거절에 함께 넣으면 예외가 발생한다.")
+    void decideApplicantsDuplicated() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Member member = memberRepository.save(MemberFixture.createGithubMember());
+        applicantRepository.save(ApplicantFixture.create(study, member));
+        ApplicantDecisionRequest request = ApplicantDecisionRequestFixture.create(List.of(member.getId()), List.of(member.getId()));
+
+        // expected
+        assertThrows(
+                InvalidRequestException.class,
+                () -> studyService.decideApplicants(studyOwner.getId(), study.getId(), request)
+        );
+    }
+
+    @Test
+    @DisplayName("참가자와 신청자 컬렉션을 읽지 않고 인덱스 조회로 신청, 승인, 탈퇴를 확인한다.")
+    void membershipWithoutLoadingCollections() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Member member = memberRepository.save(MemberFixture.createGithubMember());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        studyService.apply(member.getId(), study.getId(), ApplyRequestFixture.create());
+        assertThrows(
+                ConflictException.class,
+                () -> studyService.apply(member.getId(), study.getId(), ApplyRequestFixture.create())
+        );
+        studyService.approve(studyOwner.getId(), study.getId(), member.getId());
+        Study findStudy = studyRepository.findById(study.getId()).orElseThrow();
+        boolean collectionLoaded = findStudy.isParticipantsLoaded() || findStudy.isApplicantsLoaded();
+        int currentMemberCount = findStudy.getCurrentMemberCount();
+        studyService.withdraw(member.getId(), study.getId());
+
+        // then
+        assertThat(collectionLoaded).isFalse();
+        assertThat(currentMemberCount).isEqualTo(2);
+        assertThat(participantRepository.existsByStudyIdAndMemberId(study.getId(), member.getId())).isFalse();
+        assertThat(applicantRepository.existsByStudyIdAndMemberId(study.getId(), member.getId())).isFalse();
+    }
+
     @Test
     @DisplayName("스터디 장이 아니면 신청인원을 승인할 수 없다.")
     void approveNotOwner() {
@@ -235,7 +784,7 @@ class StudyServiceTest {
     @DisplayName("스터디 여러건 조회 1페이지")
     void getStudies() {
         // given
-        이십개_스터디_만들기();
+        committedStudyFixture.createStudies();
 
         StudiesPageableRequest studiesPageableRequest = new StudiesPageableRequest(1, 8);
 
@@ -249,6 +798,51 @@ class StudyServiceTest {
         assertThat(response.getStudyResponses().size()).isEqualTo(8);
     }
 
+    @Test
+    @DisplayName("스터디 여러건 조회시 각 스터디의 태그를 함께 가져온다.")
+    void getStudiesWithTags() {
+        // given
+        이십개_스터디_만들기();
+
+        // when
+        StudiesResponse response = studyService.getStudies(new StudiesPageableRequest(1, 8));
+
+        // then
+        response.getStudyResponses()
+                .forEach(studyResponse -> assertThat(studyResponse.getTags()).containsExactlyInAnyOrder("태그1", "태그2"));
+    }
+
+    @Test
+    @DisplayName("스터디 여러건 커서 조회 첫 페이지")
+    void getStudiesByCursor() {
+        // given
+        이십개_스터디_만들기();
+
+        // when
+        PageCursor<StudyResponse> response = studyService.getStudies(new CursorRequest(null, 8));
+
+        // then
+        assertThat(response.getBody().size()).isEqualTo(8);
+        assertThat(response.getBody().get(0).getTitle()).isEqualTo("제목입니다. 19");
+        assertThat(response.getBody().get(7).getTitle()).isEqualTo("제목입니다. 12");
+        assertThat(response.getNextCursorRequest().getKey()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("스터디 여러건 커서 조회 다음 키")
+    void getStudiesByCursorNextKey() {
+        // given
+        이십개_스터디_만들기();
+
+        // when
+        PageCursor<StudyResponse> response = studyService.getStudies(new CursorRequest(13L, 8));
+
+        // then
+        assertThat(response.getBody().get(0).getTitle()).isEqualTo("제목입니다. 11");
+        assertThat(response.getBody().get(7).getTitle()).isEqualTo("제목입니다. 4");
+        assertThat(response.getNextCursorRequest().getKey()).isEqualTo(5L);
+    }
+
     @Test
     @DisplayName("본인이 신청한 스터디 목록만 가져오기")
     void getMyApplies() {
@@ -278,11 +872,10 @@ class StudyServiceTest {
             Applicant applicant = ApplicantFixture.create(study, member);
             applicantRepository.save(applicant);
             study.addApplicant(applicant);
-        });
-        studies.forEach(study -> {
             Participant participant = ParticipantFixture.create(member, study);
             participantRepository.save(participant);
-            study.addParticipant(participant);
+            study.admitParticipant(participant, applicant, study.getCurrentMemberCount() + 1);
+            applicantRepository.delete(applicant);
         });
 
         // when
@@ -323,6 +916,37 @@ class StudyServiceTest {
         assertThat(study.getTags().get(0).getTagText()).isEqualTo("태그1 수정");
     }
 
+    @Test
+    @DisplayName("스터디를 수정하면 목록 카드에도 반영된다.")
+    void editStudyCard() {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(member.getId(), StudyRequestFixture.create());
+
+        StudyRequest request = StudyRequest.builder()
+                .title("제목입니다. 수정")
+                .description("설명입니다. 수정")
+                .studyType("MOGAKKO")
+                .thumbnail("#000001")
+                .startDate(LocalDate.now().plusDays(2))
+                .endDate(LocalDate.now().plusDays(3))
+                .maxMemberCount(2)
+                .tags(List.of("태그1 수정", "태그2 수정"))
+                .build();
+
+        // when
+        studyService.edit(member.getId(), study.getId(), request);
+        StudiesResponse response = studyService.getStudies(new StudiesPageableRequest(1, 8));
+
+        // then
+        StudyResponse studyResponse = response.getStudyResponses().get(0);
+        assertThat(studyResponse.getStudyId()).isEqualTo(study.getId());
+        assertThat(studyResponse.getTitle()).isEqualTo("제목입니다. 수정");
+        assertThat(studyResponse.getStudyType()).isEqualTo("MOGAKKO");
+        assertThat(studyResponse.getMaxMemberCount()).isEqualTo(2);
+        assertThat(studyResponse.getTags()).containsExactly("태그1 수정", "태그2 수정");
+    }
+
     @Test
     @DisplayName("스터디 장은 스터디를 삭제할 수 있다.")
     void delete() {
@@ -356,6 +980,146 @@ class StudyServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("스터디를 삭제하면 참가자, 신청자, 리뷰를 컬렉션을 읽지 않고 함께 지운다.")
+    void deleteWithChildren() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Member member = memberRepository.save(MemberFixture.createGithubMember());
+        applicantRepository.save(ApplicantFixture.create(study, member));
+        reviewRepository.save(new Review("리뷰입니다.", studyOwner, study));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        studyService.delete(studyOwner.getId(), study.getId());
+        entityManager.flush();
+
+        // then
+        assertThat(studyRepository.findById(study.getId())).isEmpty();
+        assertThat(participantRepository.countByStudyId(study.getId())).isZero();
+        assertThat(applicantRepository.countByStudyId(study.getId())).isZero();
+        assertThat(reviewRepository.countByStudyId(study.getId())).isZero();
+        assertThat(studyCardRepository.findById(study.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하위 행이 많은 스터디는 삭제 대기로 숨긴 뒤 나눠서 지운다.")
+    void deleteLargeStudyInChunks() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        for (int i = 0; i < 4; i++) {
+            Member member = memberRepository.save(MemberFixture.create("applicant" + i + "@gmail.com", "1q2w3e4r!", "applicant" + i));
+            applicantRepository.save(ApplicantFixture.create(study, member));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        StudyService target = AopTestUtils.getTargetObject(studyService);
+        ReflectionTestUtils.setField(target, "bulkDeleteThreshold", 2);
+
+        try {
+            // when
+            studyService.delete(studyOwner.getId(), study.getId());
+            entityManager.clear();
+            boolean deleting = studyRepository.findById(study.getId()).orElseThrow().isDeleting();
+            boolean cardExists = studyCardRepository.findById(study.getId()).isPresent();
+            int chunkCount = 0;
+            while (!studyService.deleteChunk(study.getId(), 2)) {
+                chunkCount++;
+            }
+            entityManager.flush();
+
+            // then
+            assertThat(deleting).isTrue();
+            assertThat(cardExists).isFalse();
+            assertThat(studyRepository.findDeletingStudyIds()).doesNotContain(study.getId());
+            assertThat(chunkCount).isEqualTo(3);
+            assertThat(studyRepository.findById(study.getId())).isEmpty();
+            assertThat(applicantRepository.countByStudyId(study.getId())).isZero();
+        } finally {
+            ReflectionTestUtils.setField(target, "bulkDeleteThreshold", 1000);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제 대기 중인 스터디에는 신청할 수 없다.")
+    void applyToDeletingStudy() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Member member = memberRepository.save(MemberFixture.createGithubMember());
+        studyRepository.markDeleting(study.getId());
+        entityManager.clear();
+
+        // expected
+        assertThrows(
+                NotFoundException.class,
+                () -> studyService.apply(member.getId(), study.getId(), ApplyRequestFixture.create())
+        );
+    }
+
+    @Test
+    @DisplayName("삭제 대기 중인 스터디는 요약 조회에서 찾을 수 없다.")
+    void getStudySummaryOfDeletingStudy() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        studyRepository.markDeleting(study.getId());
+        entityManager.clear();
+
+        // expected
+        assertThrows(
+                NotFoundException.class,
+                () -> studyService.getStudySummary(study.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("삭제 대기 중인 스터디는 커서 목록과 전체 개수에서 빠진다.")
+    void getStudiesExcludesDeletingStudy() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Study deletingStudy = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create());
+        Long countBefore = studyRepository.getCount();
+
+        // when
+        studyRepository.markDeleting(deletingStudy.getId());
+        entityManager.clear();
+        List<Long> studyIds = studyRepository.getStudies(new CursorRequest(CursorRequest.NONE_KEY, 100))
+                .stream()
+                .map(Study::getId)
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(studyIds).contains(study.getId()).doesNotContain(deletingStudy.getId());
+        assertThat(studyRepository.getCount()).isEqualTo(countBefore - 1);
+    }
+
+    @Test
+    @DisplayName("삭제 대기 중인 스터디는 DB 검색 결과와 검색 개수에서 빠진다.")
+    void getSearchStudiesExcludesDeletingStudy() {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create("삭제대기검색"));
+        Study deletingStudy = studyService.createStudy(studyOwner.getId(), StudyRequestFixture.create("삭제대기검색"));
+        SearchCondition condition = new SearchCondition(1, 8, "삭제대기검색", null, null, null, false, null);
+
+        // when
+        studyRepository.markDeleting(deletingStudy.getId());
+        entityManager.clear();
+        List<Long> studyIds = studyRepository.getSearchStudies(condition)
+                .stream()
+                .map(Study::getId)
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(studyIds).containsExactly(study.getId());
+        assertThat(studyRepository.getCount(condition)).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("참가자는 스터디를 탈퇴할 수 있다.")
     void withdraw() {
@@ -429,8 +1193,8 @@ class StudyServiceTest {
     @DisplayName("스터디 Search 여러건 조회 1페이지")
     void getSearchStudies() {
         // given
-        이십개_스터디_만들기();
-        SearchCondition searchCondition = new SearchCondition(1, 8, "제목", "STUDY", "태그");
+        committedStudyFixture.createStudies();
+        SearchCondition searchCondition = new SearchCondition(1, 8, "제목", "STUDY", "태그", null, false, null);
 
         // when
         StudiesResponse response = studyService.getSearchStudies(searchCondition);
@@ -442,6 +1206,33 @@ class StudyServiceTest {
         assertThat(response.getStudyResponses().size()).isEqualTo(8);
     }
 
+    @Test
+    @DisplayName("검색 색인이 준비되기 전에는 DB 로 정확한 개수를 세어 빈 facet 과 함께 반환하고, 관련도순 정렬은 거절한다.")
+    void getSearchStudiesBeforeIndexReady() {
+        // given
+        committedStudyFixture.createStudies();
+        SearchCondition approximateCondition = new SearchCondition(1, 8, "제목", "STUDY", "태그", null, true, null);
+        SearchCondition relevanceCondition = new SearchCondition(1, 8, "제목", "STUDY", "태그", null, false, "relevance");
+        StudyService target = AopTestUtils.getTargetObject(studyService);
+        Object readyIndex = ReflectionTestUtils.getField(target, "studySearchIndex");
+        ReflectionTestUtils.setField(target, "studySearchIndex", new StudySearchIndex(new NGramTokenizer()));
+
+        try {
+            // when
+            StudiesResponse response = studyService.getSearchStudies(approximateCondition);
+
+            // then
+            assertThat(response.getTotalPage()).isEqualTo(3);
+            assertThat(response.getStudyResponses()).hasSize(8);
+            assertThat(response.getFacets().getStudyTypes()).isEmpty();
+            assertThat(response.getFacets().getStudyStatuses()).isEmpty();
+            assertThat(response.getFacets().getTags()).isEmpty();
+            assertThrows(ServiceUnavailableException.class, () -> studyService.getSearchStudies(relevanceCondition));
+        } finally {
+            ReflectionTestUtils.setField(target, "studySearchIndex", readyIndex);
+        }
+    }
+
     @Test
     @DisplayName("스터디 신청을 취소할 수 있다.")
     void cancelApply() {
@@ -0,0 +1,75 @@
+package com.study.codingswamp.presentation.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+class IdempotencyRequestFilterTest {
+
+    private final IdempotencyRequestFilter filter = new IdempotencyRequestFilter();
+
+    @Test
+    @DisplayName("멱등키가 있는 JSON 요청은 본문을 읽어 두고, 컨트롤러가 다시 읽을 수 있다.")
+    void cacheJsonBody() throws Exception {
+        // given
+        byte[] body = "{\"reasonForApplication\":\"신청합니다.\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/study/1/apply");
+        request.addHeader(IdempotencyInterceptor.IDEMPOTENCY_KEY, "key");
+        request.setContentType(APPLICATION_JSON_VALUE);
+        request.setContent(body);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        HttpServletRequest filtered = (HttpServletRequest) chain.getRequest();
+        assertThat(filtered).isInstanceOf(IdempotencyRequestFilter.CachedBodyRequest.class);
+        assertThat(((IdempotencyRequestFilter.CachedBodyRequest) filtered).getBody()).isEqualTo(body);
+        assertThat(filtered.getInputStream().readAllBytes()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("멱등키가 있어도 멀티파트 요청은 본문을 읽지 않고 그대로 넘긴다.")
+    void skipMultipart() throws Exception {
+        // given
+        MockMultipartHttpServletRequest request = new MockMultipartHttpServletRequest();
+        request.setMethod("POST");
+        request.setRequestURI("/api/member/signup");
+        request.addHeader(IdempotencyInterceptor.IDEMPOTENCY_KEY, "key");
+        request.setContent(new byte[1024]);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("멱등키가 있어도 64KB 를 넘는 JSON 본문은 읽지 않고 그대로 넘긴다.")
+    void skipOversizedBody() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/study");
+        request.addHeader(IdempotencyInterceptor.IDEMPOTENCY_KEY, "key");
+        request.setContentType(APPLICATION_JSON_VALUE);
+        request.setContent(new byte[IdempotencyRequestFilter.MAX_BODY_SIZE + 1]);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+}
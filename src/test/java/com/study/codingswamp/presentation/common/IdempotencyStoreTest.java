@@ -0,0 +1,128 @@
+package com.study.codingswamp.presentation.common;
+
+import com.study.codingswamp.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+    @Test
+    @DisplayName("처리가 끝난 키로 다시 잡으면 저장된 응답을 돌려준다.")
+    void reserveCompleted() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofMinutes(1), Clock.systemUTC());
+        assertThat(store.reserve("key", "hash")).isNull();
+        store.complete("key", 201, "/api/study/1");
+
+        // when
+        IdempotencyStore.Entry entry = store.reserve("key", "hash");
+
+        // then
+        assertThat(entry.isCompleted()).isTrue();
+        assertThat(entry.getStatus()).isEqualTo(201);
+        assertThat(entry.getLocation()).isEqualTo("/api/study/1");
+    }
+
+    @Test
+    @DisplayName("처리 중인 키는 처리 중 항목을 돌려주고, 실패로 풀리면 다시 잡을 수 있다.")
+    void reserveInProgress() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofMinutes(1), Clock.systemUTC());
+        store.reserve("key", "hash");
+
+        // when
+        IdempotencyStore.Entry inProgress = store.reserve("key", "hash");
+        store.release("key");
+
+        // then
+        assertThat(inProgress.isCompleted()).isFalse();
+        assertThat(store.reserve("key", "hash")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키라도 요청 본문 해시가 다르면 일치하지 않는 항목으로 돌려준다.")
+    void reserveWithDifferentFingerprint() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofMinutes(1), Clock.systemUTC());
+        store.reserve("key", "hash");
+        store.complete("key", 201, "/api/study/1");
+
+        // when
+        IdempotencyStore.Entry entry = store.reserve("key", "other");
+
+        // then
+        assertThat(entry.matches("hash")).isTrue();
+        assertThat(entry.matches("other")).isFalse();
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 키는 새 요청으로 처리한다.")
+    void reserveExpired() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2023-06-01T00:00:00Z"));
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofMinutes(1), clock);
+        store.reserve("key", "hash");
+        store.complete("key", 201, "/api/study/1");
+
+        // when
+        clock.instant = Instant.parse("2023-06-01T00:01:00Z");
+
+        // then
+        assertThat(store.reserve("key", "hash")).isNull();
+    }
+
+    @Test
+    @DisplayName("가득 차면 만료된 항목을 치우고, 자리가 없으면 새 키를 503 으로 거절한다.")
+    void reserveWhenFull() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2023-06-01T00:00:00Z"));
+        IdempotencyStore store = new IdempotencyStore(2, Duration.ofMinutes(1), clock);
+        store.reserve("first", "hash");
+        clock.instant = Instant.parse("2023-06-01T00:00:30Z");
+        store.reserve("second", "hash");
+
+        // when
+        clock.instant = Instant.parse("2023-06-01T00:01:00Z");
+        IdempotencyStore.Entry third = store.reserve("third", "hash");
+
+        // then
+        assertThat(third).isNull();
+        assertThatThrownBy(() -> store.reserve("fourth", "hash"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.reserve("third", "hash").isCompleted()).isFalse();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
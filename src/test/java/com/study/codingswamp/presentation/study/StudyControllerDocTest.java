@@ -4,17 +4,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.codingswamp.application.auth.token.TokenProvider;
 import com.study.codingswamp.domain.member.entity.Member;
 import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.dto.request.ApplicantDecisionRequest;
 import com.study.codingswamp.domain.study.dto.request.ApplyRequest;
 import com.study.codingswamp.domain.study.dto.request.StudyRequest;
 import com.study.codingswamp.domain.study.entity.*;
 import com.study.codingswamp.domain.study.repository.ApplicantRepository;
 import com.study.codingswamp.domain.study.repository.ParticipantRepository;
 import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.domain.study.repository.WaitingApplicantRepository;
+import com.study.codingswamp.presentation.common.IdempotencyInterceptor;
+import com.study.codingswamp.presentation.common.IdempotencyRequestFilter;
+import com.study.codingswamp.util.fixture.dto.study.ApplicantDecisionRequestFixture;
 import com.study.codingswamp.util.fixture.dto.study.ApplyRequestFixture;
 import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
 import com.study.codingswamp.util.fixture.entity.study.ApplicantFixture;
+import com.study.codingswamp.util.fixture.entity.study.CommittedStudyFixture;
 import com.study.codingswamp.util.fixture.entity.study.ParticipantFixture;
 import com.study.codingswamp.util.fixture.entity.study.StudyFixture;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,7 +33,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
@@ -37,10 +46,16 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
@@ -49,6 +64,9 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.re
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -71,7 +89,15 @@ public class StudyControllerDocTest {
     @Autowired
     private ParticipantRepository participantRepository;
     @Autowired
+    private WaitingApplicantRepository waitingApplicantRepository;
+    @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private IdempotencyRequestFilter idempotencyRequestFilter;
+
+    private CommittedStudyFixture committedStudyFixture;
 
     @BeforeEach
     public void setUp(WebApplicationContext webApplicationContext, RestDocumentationContextProvider restDocumentation) {
@@ -81,10 +107,17 @@ public class StudyControllerDocTest {
                         .withRequestDefaults(prettyPrint())
                         .withResponseDefaults(prettyPrint(), removeHeaders("Vary"))
                 )
+                .addFilters(idempotencyRequestFilter)
                 .build();
 
         jdbcTemplate.update("alter table study auto_increment= ?", 1);
         jdbcTemplate.update("alter table member auto_increment= ?", 1);
+        committedStudyFixture = new CommittedStudyFixture(transactionManager, memberRepository, studyRepository, jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        committedStudyFixture.clear();
     }
 
     @Test
@@ -126,7 +159,7 @@ public class StudyControllerDocTest {
                                 fieldWithPath("startDate").description("스터디 시작일 포멧 (yy-MM-dd)"),
                                 fieldWithPath("endDate").description("스터디 종료일 포멧 (yy-MM-dd)"),
                                 fieldWithPath("maxMemberCount").description("스터디 최대인원"),
-                                fieldWithPath("tags").description("태그 type(List)")
+                                fieldWithPath("tags").description("태그 type(List), 빈 태그는 쓸 수 없음")
                         )
                 ));
     }
@@ -167,6 +200,8 @@ public class StudyControllerDocTest {
                                 fieldWithPath("owner.imageUrl").description("스터디장 이미지"),
                                 fieldWithPath("owner.profileUrl").description("스터디장 깃헙주소"),
                                 fieldWithPath("owner.participationDate").description("스터디장 참가일"),
+                                fieldWithPath("participantCount").description("참가자 수"),
+                                fieldWithPath("applicantCount").description("신청자 수"),
                                 fieldWithPath("participants").description("참가자 정보"),
                                 fieldWithPath("participants[].memberId").description("참가자 memberId"),
                                 fieldWithPath("participants[].username").description("참가자 닉네임"),
@@ -186,6 +221,264 @@ public class StudyControllerDocTest {
                 ));
     }
 
+    @Test
+    @DisplayName("스터디 상세 단건 조회시 참가자와 신청자는 인원 수만 조회할 수 있다.")
+    void getStudyDetailCountsOnly() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(member);
+        studyRepository.save(study);
+        participantRepository.save(ParticipantFixture.create(member, study));
+        Member hong = memberRepository.save(MemberFixture.createGithubMember());
+        applicantRepository.save(ApplicantFixture.create(study, hong));
+
+        // expected
+        mockMvc.perform(get("/api/study/{studyId}", study.getId())
+                        .param("countsOnly", "true")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("study-get-detail-counts",
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 아이디 type(Long)")
+                        ),
+                        requestParameters(
+                                parameterWithName("countsOnly").description("true 이면 참가자, 신청자 목록 없이 인원 수만 반환 (기본값 false)")
+                        ),
+                        responseFields(
+                                fieldWithPath("studyId").description("스터디 아이디"),
+                                fieldWithPath("title").description("제목"),
+                                fieldWithPath("description").description("설명"),
+                                fieldWithPath("studyType").description("스터디 타입"),
+                                fieldWithPath("thumbnail").description("썸네일 색상코드"),
+                                fieldWithPath("studyStatus").description("스터디 상태"),
+                                fieldWithPath("currentMemberCount").description("현재 인원"),
+                                fieldWithPath("maxMemberCount").description("최대 인원"),
+                                fieldWithPath("startDate").description("스터디 시작일"),
+                                fieldWithPath("endDate").description("스터디 종료일"),
+                                fieldWithPath("owner").description("스터디장 정보"),
+                                fieldWithPath("owner.memberId").description("스터디장 memberId"),
+                                fieldWithPath("owner.username").description("스터디장 닉네임"),
+                                fieldWithPath("owner.imageUrl").description("스터디장 이미지"),
+                                fieldWithPath("owner.profileUrl").description("스터디장 깃헙주소"),
+                                fieldWithPath("owner.participationDate").description("스터디장 참가일"),
+                                fieldWithPath("participantCount").description("참가자 수"),
+                                fieldWithPath("applicantCount").description("신청자 수"),
+                                fieldWithPath("tags").description("태그 정보"),
+                                fieldWithPath("createdAt").description("스터디 등록일")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("스터디 상세 단건 조회 필드 선택")
+    void getStudyDetailsWithFields() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(member);
+        studyRepository.save(study);
+        participantRepository.save(ParticipantFixture.create(member, study));
+
+        // expected
+        mockMvc.perform(get("/api/study/{studyId}", study.getId())
+                        .param("fields", "title,thumbnail,studyStatus")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("study-get-detail-fields",
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 아이디 type(Long)")
+                        ),
+                        requestParameters(
+                                parameterWithName("fields").description("콤마로 구분한 응답 필드 목록, studyId 는 항상 포함. 요청하지 않은 필드는 조회하지 않는다.")
+                        ),
+                        responseFields(
+                                fieldWithPath("studyId").description("스터디 아이디"),
+                                fieldWithPath("title").description("제목"),
+                                fieldWithPath("thumbnail").description("썸네일 색상코드"),
+                                fieldWithPath("studyStatus").description("스터디 상태")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("countsOnly 와 목록이 아닌 fields 를 함께 요청하면 고른 필드만 목록 없이 반환한다.")
+    void getStudyDetailsWithCountsOnlyAndFields() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(member);
+        studyRepository.save(study);
+        participantRepository.save(ParticipantFixture.create(member, study));
+
+        // expected
+        mockMvc.perform(get("/api/study/{studyId}", study.getId())
+                        .param("countsOnly", "true")
+                        .param("fields", "title,participantCount")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(study.getTitle()))
+                .andExpect(jsonPath("$.participantCount").value(1))
+                .andExpect(jsonPath("$.participants").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("countsOnly 와 참가자, 신청자 목록 필드를 함께 요청하면 400 을 반환한다.")
+    void getStudyDetailsWithCountsOnlyAndListFields() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(member);
+        studyRepository.save(study);
+        participantRepository.save(ParticipantFixture.create(member, study));
+
+        // expected
+        mockMvc.perform(get("/api/study/{studyId}", study.getId())
+                        .param("countsOnly", "true")
+                        .param("fields", "title,participants")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation.countsOnly").exists());
+    }
+
+    @Test
+    @DisplayName("스터디 상세 단건 조회시 ETag 가 같으면 304 를 반환한다.")
+    void getStudyDetailsNotModified() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(member);
+        Participant participant = ParticipantFixture.create(member, study);
+        study.initParticipants(participant);
+        studyRepository.save(study);
+        participantRepository.save(participant);
+        String eTag = mockMvc.perform(get("/api/study/{studyId}", study.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+
+        // expected
+        mockMvc.perform(get("/api/study/{studyId}", study.getId())
+                        .header(IF_NONE_MATCH, eTag)
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(document("study-get-detail-not-modified",
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 아이디 type(Long)")
+                        ),
+                        requestHeaders(
+                                headerWithName(IF_NONE_MATCH).description("이전 응답의 ETag")
+                        ),
+                        responseHeaders(
+                                headerWithName(ETAG).description("스터디 상세 버전, 스터디나 회원 정보가 바뀌면 달라진다.")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("삭제된 스터디는 이전 ETag 로 조회해도 304 가 아니라 404 를 반환한다.")
+    void getDeletedStudyDetailsWithETag() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        String token = tokenProvider.createAccessToken(member.getId(), member.getRole());
+        Study study = StudyFixture.create(member);
+        Participant participant = ParticipantFixture.create(member, study);
+        study.initParticipants(participant);
+        studyRepository.save(study);
+        participantRepository.save(participant);
+        String eTag = mockMvc.perform(get("/api/study/{studyId}", study.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+        mockMvc.perform(RestDocumentationRequestBuilders.delete("/api/study/{studyId}", study.getId())
+                        .header(AUTHORIZATION, "Bearer " + token)
+                )
+                .andExpect(status().isNoContent());
+
+        // expected
+        mockMvc.perform(get("/api/study/{studyId}", study.getId())
+                        .header(IF_NONE_MATCH, eTag)
+                )
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/study/{studyId}", study.getId() + 1)
+                        .header(IF_NONE_MATCH, eTag)
+                )
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("스터디 참가자 커서 조회")
+    void getParticipants() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(member);
+        studyRepository.save(study);
+        participantRepository.save(ParticipantFixture.create(member, study));
+        Member hong = memberRepository.save(MemberFixture.createGithubMember());
+        participantRepository.save(ParticipantFixture.create(hong, study));
+
+        // expected
+        mockMvc.perform(get("/api/study/{studyId}/participants", study.getId())
+                        .param("size", "8")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("study-get-participants",
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 아이디 type(Long)")
+                        ),
+                        requestParameters(
+                                parameterWithName("size").description("참가자 수, 값을 주지않으면 default 8")
+                        ),
+                        responseFields(
+                                fieldWithPath("nextCursorRequest").description("다음 커서"),
+                                fieldWithPath("nextCursorRequest.key").description("다음 커서 key, -1이 반환되면 마지막 커서"),
+                                fieldWithPath("nextCursorRequest.size").description("다음 커서 size"),
+                                fieldWithPath("body").description("참가자 정보"),
+                                fieldWithPath("body[].memberId").description("참가자 memberId"),
+                                fieldWithPath("body[].username").description("참가자 닉네임"),
+                                fieldWithPath("body[].imageUrl").description("참가자 이미지"),
+                                fieldWithPath("body[].profileUrl").type(JsonFieldType.STRING).description("참가자 깃헙주소, 없으면 null").optional(),
+                                fieldWithPath("body[].participationDate").description("참가자 참가일")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("스터디 신청자 커서 조회")
+    void getApplicants() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(member);
+        studyRepository.save(study);
+        Member hong = memberRepository.save(MemberFixture.createGithubMember());
+        applicantRepository.save(ApplicantFixture.create(study, hong));
+
+        // expected
+        mockMvc.perform(get("/api/study/{studyId}/applicants", study.getId())
+                        .param("size", "8")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("study-get-applicants",
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 아이디 type(Long)")
+                        ),
+                        requestParameters(
+                                parameterWithName("size").description("신청자 수, 값을 주지않으면 default 8")
+                        ),
+                        responseFields(
+                                fieldWithPath("nextCursorRequest").description("다음 커서"),
+                                fieldWithPath("nextCursorRequest.key").description("다음 커서 key, -1이 반환되면 마지막 커서"),
+                                fieldWithPath("nextCursorRequest.size").description("다음 커서 size"),
+                                fieldWithPath("body").description("신청자 정보"),
+                                fieldWithPath("body[].memberId").description("신청자 memberId"),
+                                fieldWithPath("body[].username").description("신청자 닉네임"),
+                                fieldWithPath("body[].imageUrl").description("신청자 이미지"),
+                                fieldWithPath("body[].profileUrl").description("신청자 깃헙주소"),
+                                fieldWithPath("body[].reasonForApplication").description("지원 동기"),
+                                fieldWithPath("body[].applicationDate").description("신청일")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("스터디 신청인이 스터디를 신청하면 스터디 신청자에 포함되어야 한다.")
     void apply() throws Exception {
@@ -221,6 +514,156 @@ public class StudyControllerDocTest {
                 ));
     }
 
+    @Test
+    @DisplayName("정원이 찬 스터디에 신청하면 대기자로 등록되고 202 를 응답한다.")
+    void applyWhenFull() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        String token = tokenProvider.createAccessToken(member.getId(), member.getRole());
+
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = Study.builder()
+                .title("제목입니다.")
+                .description("설명입니다.")
+                .studyStatus(StudyStatus.PREPARING)
+                .studyType(StudyType.STUDY)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .owner(studyOwner)
+                .currentMemberCount(1)
+                .applicants(new HashSet<>())
+                .maxMemberCount(1)
+                .thumbnail("#00000")
+                .tags(List.of(new Tag("태그1"), new Tag("태그2")))
+                .build();
+        studyRepository.save(study);
+
+        String json = objectMapper.writeValueAsString(ApplyRequestFixture.create());
+
+        // expected
+        mockMvc.perform(patch("/api/study/{studyId}/apply", study.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .header(AUTHORIZATION, "Bearer " + token)
+                )
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(LOCATION, "/api/study/" + study.getId()))
+                .andDo(document("study-apply-waiting",
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION).description("Bearer auth credentials")
+                        ),
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 아이디 type(Long)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("같은 멱등키로 다시 신청하면 다시 처리하지 않고 처음 응답을 돌려준다.")
+    void applyWithIdempotencyKey() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        String token = tokenProvider.createAccessToken(member.getId(), member.getRole());
+
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(studyOwner);
+        studyRepository.save(study);
+
+        String json = objectMapper.writeValueAsString(ApplyRequestFixture.create());
+        String idempotencyKey = "4f1c2a8e-7d3b-4c51-9a0e-2b6f8d1e5c37";
+
+        mockMvc.perform(patch("/api/study/{studyId}/apply", study.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .header(AUTHORIZATION, "Bearer " + token)
+                        .header(IdempotencyInterceptor.IDEMPOTENCY_KEY, idempotencyKey)
+                )
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyInterceptor.IDEMPOTENT_REPLAYED));
+
+        // expected
+        mockMvc.perform(patch("/api/study/{studyId}/apply", study.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .header(AUTHORIZATION, "Bearer " + token)
+                        .header(IdempotencyInterceptor.IDEMPOTENCY_KEY, idempotencyKey)
+                )
+                .andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/api/study/" + study.getId()))
+                .andExpect(header().string(IdempotencyInterceptor.IDEMPOTENT_REPLAYED, "true"))
+                .andDo(document("study-apply-idempotent",
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION).description("Bearer auth credentials"),
+                                headerWithName(IdempotencyInterceptor.IDEMPOTENCY_KEY).description("요청마다 새로 만드는 멱등키, 재시도할 때는 같은 값 (255자 이하)")
+                        ),
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 아이디 type(Long)")
+                        ),
+                        responseHeaders(
+                                headerWithName(LOCATION).description("처음 응답의 Location"),
+                                headerWithName(IdempotencyInterceptor.IDEMPOTENT_REPLAYED).description("저장된 응답을 돌려줬으면 true")
+                        )
+                ));
+        assertThat(applicantRepository.countByStudyId(study.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 멱등키로 다른 내용의 신청을 보내면 422 를 응답한다.")
+    void applyWithIdempotencyKeyAndDifferentBody() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        String token = tokenProvider.createAccessToken(member.getId(), member.getRole());
+
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(studyOwner);
+        studyRepository.save(study);
+
+        String idempotencyKey = "9b2e7c41-3a6d-4f08-8c15-d0e4a7b96f23";
+
+        mockMvc.perform(patch("/api/study/{studyId}/apply", study.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ApplyRequestFixture.create()))
+                        .header(AUTHORIZATION, "Bearer " + token)
+                        .header(IdempotencyInterceptor.IDEMPOTENCY_KEY, idempotencyKey)
+                )
+                .andExpect(status().isCreated());
+
+        // expected
+        mockMvc.perform(patch("/api/study/{studyId}/apply", study.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ApplyRequest("다른 지원 동기입니다.")))
+                        .header(AUTHORIZATION, "Bearer " + token)
+                        .header(IdempotencyInterceptor.IDEMPOTENCY_KEY, idempotencyKey)
+                )
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(IdempotencyInterceptor.IDEMPOTENT_REPLAYED));
+        assertThat(applicantRepository.countByStudyId(study.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멱등키와 함께 64KB 를 넘는 본문을 보내면 처리하지 않고 400 을 응답한다.")
+    void applyWithIdempotencyKeyAndOversizedBody() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.create(true));
+        String token = tokenProvider.createAccessToken(member.getId(), member.getRole());
+
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        Study study = StudyFixture.create(studyOwner);
+        studyRepository.save(study);
+
+        String reason = "a".repeat(IdempotencyRequestFilter.MAX_BODY_SIZE);
+
+        // expected
+        mockMvc.perform(patch("/api/study/{studyId}/apply", study.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ApplyRequest(reason)))
+                        .header(AUTHORIZATION, "Bearer " + token)
+                        .header(IdempotencyInterceptor.IDEMPOTENCY_KEY, "0c7d5e2a-6b41-4f93-8e1a-3d9f2b7c4a60")
+                )
+                .andExpect(status().isBadRequest());
+        assertThat(applicantRepository.countByStudyId(study.getId())).isZero();
+    }
+
     @Test
     @DisplayName("스터디 신청인원은 스터디장이 승인할 수 있다.")
     void approve() throws Exception {
@@ -249,13 +692,50 @@ public class StudyControllerDocTest {
                 ));
     }
 
+    @Test
+    @DisplayName("스터디장은 여러 신청인원을 한 번에 승인하고 거절할 수 있다.")
+    void decideApplicants() throws Exception {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        String token = tokenProvider.createAccessToken(studyOwner.getId(), studyOwner.getRole());
+        Study study = StudyFixture.create(studyOwner);
+        studyRepository.save(study);
+        Member approved = memberRepository.save(MemberFixture.create("approved@gmail.com", "1q2w3e4r!", "approved"));
+        Member rejected = memberRepository.save(MemberFixture.create("rejected@gmail.com", "1q2w3e4r!", "rejected"));
+        applicantRepository.save(ApplicantFixture.create(study, approved));
+        applicantRepository.save(ApplicantFixture.create(study, rejected));
+
+        ApplicantDecisionRequest request = ApplicantDecisionRequestFixture.create(
+                List.of(approved.getId()), List.of(rejected.getId())
+        );
+        String json = objectMapper.writeValueAsString(request);
+
+        // expected
+        mockMvc.perform(patch("/api/study/{studyId}/applicants", study.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .header(AUTHORIZATION, "Bearer " + token)
+                )
+                .andExpect(status().isCreated())
+                .andDo(document("study-decide-applicants",
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION).description("Bearer auth credentials")
+                        ),
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 아이디 type(Long)")
+                        ),
+                        requestFields(
+                                fieldWithPath("approvedMemberIds").description("승인할 신청인 아이디 목록 (최대 100개)"),
+                                fieldWithPath("rejectedMemberIds").description("거절할 신청인 아이디 목록 (최대 100개)")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("스터디 여러건 조회 1페이지")
     void getStudies() throws Exception {
         // given
-        Member studyOwner = memberRepository.save(MemberFixture.create(true));
-        List<Study> studies = StudyFixture.createStudies(studyOwner);
-        studyRepository.saveAll(studies);
+        committedStudyFixture.createStudies();
 
         // expected
         mockMvc.perform(get("/api/study")
@@ -287,6 +767,116 @@ public class StudyControllerDocTest {
                 ));
     }
 
+    @Test
+    @DisplayName("스터디 여러건 커서 조회")
+    void getStudiesByCursor() throws Exception {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        List<Study> studies = StudyFixture.createStudies(studyOwner);
+        studyRepository.saveAll(studies);
+
+        // expected
+        mockMvc.perform(get("/api/study/cursor")
+                        .param("key", "13")
+                        .param("size", "8")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("study-get-studies-cursor",
+                        requestParameters(
+                                parameterWithName("key").description("next key, 키를 주지않거나 음수 입력시 첫 번째 반환"),
+                                parameterWithName("size").description("스터디 수, 값을 주지않으면 default 8")
+                        ),
+                        responseFields(
+                                fieldWithPath("nextCursorRequest").description("다음 커서"),
+                                fieldWithPath("nextCursorRequest.key").description("다음 커서 key, -1이 반환되면 마지막 커서"),
+                                fieldWithPath("nextCursorRequest.size").description("다음 커서 size"),
+                                fieldWithPath("body").description("스터디 게시물들"),
+                                fieldWithPath("body[].studyId").description("스터디 아이디"),
+                                fieldWithPath("body[].title").description("스터디 제목"),
+                                fieldWithPath("body[].studyType").description("스터디 타입"),
+                                fieldWithPath("body[].thumbnail").description("스터디 썸네일"),
+                                fieldWithPath("body[].studyStatus").description("스터디 상태"),
+                                fieldWithPath("body[].currentMemberCount").description("현재인원"),
+                                fieldWithPath("body[].maxMemberCount").description("정원"),
+                                fieldWithPath("body[].startDate").description("스터디 시작일"),
+                                fieldWithPath("body[].endDate").description("스터디 종료일"),
+                                fieldWithPath("body[].tags").description("스터디 태그들"),
+                                fieldWithPath("body[].tags[]").description("스터디 태그 정보"),
+                                fieldWithPath("body[].createdAt").description("스터디 등록일")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("스터디 여러건 조회시 ETag 가 같으면 304 를 반환하고, 스터디가 바뀌면 새 응답을 반환한다.")
+    void getStudiesNotModified() throws Exception {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        studyRepository.saveAll(StudyFixture.createStudies(studyOwner));
+        String eTag = mockMvc.perform(get("/api/study").param("page", "1").param("size", "8"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+
+        // expected
+        mockMvc.perform(get("/api/study")
+                        .param("page", "1")
+                        .param("size", "8")
+                        .header(IF_NONE_MATCH, eTag)
+                )
+                .andExpect(status().isNotModified())
+                .andDo(document("study-get-studies-not-modified",
+                        requestHeaders(
+                                headerWithName(IF_NONE_MATCH).description("이전 응답의 ETag")
+                        ),
+                        responseHeaders(
+                                headerWithName(ETAG).description("스터디 목록 버전, 어느 스터디든 바뀌면 달라진다.")
+                        )
+                ));
+
+        studyRepository.save(StudyFixture.create(studyOwner));
+        mockMvc.perform(get("/api/study")
+                        .param("page", "1")
+                        .param("size", "8")
+                        .header(IF_NONE_MATCH, eTag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, not(eTag)));
+    }
+
+    @Test
+    @DisplayName("스터디 여러건 커서 조회 필드 선택")
+    void getStudiesByCursorWithFields() throws Exception {
+        // given
+        Member studyOwner = memberRepository.save(MemberFixture.create(true));
+        List<Study> studies = StudyFixture.createStudies(studyOwner);
+        studyRepository.saveAll(studies);
+
+        // expected
+        mockMvc.perform(get("/api/study/cursor")
+                        .param("size", "8")
+                        .param("fields", "title,thumbnail,studyStatus")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("study-get-studies-cursor-fields",
+                        requestParameters(
+                                parameterWithName("size").description("스터디 수, 값을 주지않으면 default 8"),
+                                parameterWithName("fields").description("콤마로 구분한 스터디 필드 목록, studyId 는 항상 포함")
+                        ),
+                        responseFields(
+                                fieldWithPath("nextCursorRequest").description("다음 커서"),
+                                fieldWithPath("nextCursorRequest.key").description("다음 커서 key, -1이 반환되면 마지막 커서"),
+                                fieldWithPath("nextCursorRequest.size").description("다음 커서 size"),
+                                fieldWithPath("body").description("스터디 게시물들"),
+                                fieldWithPath("body[].studyId").description("스터디 아이디"),
+                                fieldWithPath("body[].title").description("스터디 제목"),
+                                fieldWithPath("body[].thumbnail").description("스터디 썸네일"),
+                                fieldWithPath("body[].studyStatus").description("스터디 상태")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("나의 신청 스터디 여러건 조회")
     void getMyApplies() throws Exception {
@@ -347,6 +937,62 @@ public class StudyControllerDocTest {
                 ));
     }
 
+    @Test
+    @DisplayName("나의 대기 스터디 조회")
+    void getMyWaitings() throws Exception {
+        // given
+        Member waitingMember = memberRepository.save(MemberFixture.create(true));
+        String token = tokenProvider.createAccessToken(waitingMember.getId(), waitingMember.getRole());
+
+        Member studyOwner = memberRepository.save(MemberFixture.createGithubMember());
+        IntStream.range(0, 3)
+                .forEach(i -> {
+                    Study study = Study.builder()
+                            .title("제목입니다. " + i)
+                            .description("설명입니다. " + i)
+                            .studyStatus(StudyStatus.PREPARING)
+                            .studyType(StudyType.STUDY)
+                            .startDate(LocalDate.now().plusDays(1))
+                            .endDate(LocalDate.now().plusDays(2))
+                            .owner(studyOwner)
+                            .currentMemberCount(1)
+                            .applicants(new HashSet<>())
+                            .maxMemberCount(1)
+                            .thumbnail("#00000")
+                            .tags(List.of(new Tag("태그1"), new Tag("태그2")))
+                            .build();
+                    studyRepository.save(study);
+                    waitingApplicantRepository.save(new WaitingApplicant(study, waitingMember, "지원 동기", LocalDate.now()));
+                });
+
+        // expected
+        mockMvc.perform(get("/api/study/my/waitings")
+                        .header(AUTHORIZATION, "Bearer " + token)
+                )
+                .andExpect(status().isOk())
+                .andDo(document("study-get-myWaitings",
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION).description("Bearer auth credentials")
+                        ),
+                        responseFields(
+                                fieldWithPath("totalPage").description("총 페이지 수"),
+                                fieldWithPath("studyResponses").description("대기 중인 스터디들, 먼저 대기한 순서"),
+                                fieldWithPath("studyResponses[].studyId").description("스터디 아이디"),
+                                fieldWithPath("studyResponses[].title").description("스터디 제목"),
+                                fieldWithPath("studyResponses[].studyType").description("스터디 타입"),
+                                fieldWithPath("studyResponses[].thumbnail").description("스터디 썸네일"),
+                                fieldWithPath("studyResponses[].studyStatus").description("스터디 상태"),
+                                fieldWithPath("studyResponses[].currentMemberCount").description("현재인원"),
+                                fieldWithPath("studyResponses[].maxMemberCount").description("정원"),
+                                fieldWithPath("studyResponses[].startDate").description("스터디 시작일"),
+                                fieldWithPath("studyResponses[].endDate").description("스터디 종료일"),
+                                fieldWithPath("studyResponses[].tags").description("스터디 태그들"),
+                                fieldWithPath("studyResponses[].tags[]").description("스터디 태그 정보"),
+                                fieldWithPath("studyResponses[].createdAt").description("스터디 등록일")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("나의 참가 스터디 조회")
     void getMyParticipates() throws Exception {
@@ -449,7 +1095,7 @@ public class StudyControllerDocTest {
                                 fieldWithPath("startDate").description("스터디 시작일 포멧 (yy-MM-dd)"),
                                 fieldWithPath("endDate").description("스터디 종료일 포멧 (yy-MM-dd)"),
                                 fieldWithPath("maxMemberCount").description("스터디 최대인원"),
-                                fieldWithPath("tags").description("태그 type(List)")
+                                fieldWithPath("tags").description("태그 type(List), 빈 태그는 쓸 수 없음")
                         )
                 ));
     }
@@ -564,21 +1210,50 @@ public class StudyControllerDocTest {
 
     }
 
+    @Test
+    @DisplayName("스터디 검색어 자동완성")
+    void autocomplete() throws Exception {
+        // given
+        committedStudyFixture.createStudies();
+
+        // expected
+        mockMvc.perform(get("/api/study/autocomplete")
+                        .param("keyword", "제")
+                        .param("size", "5")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("study-autocomplete",
+                        requestParameters(
+                                parameterWithName("keyword").description("검색어 접두어"),
+                                parameterWithName("size").description("종류별 추천 개수 (기본값 10, 최대 20)")
+                        ),
+                        responseFields(
+                                fieldWithPath("titles").description("스터디 제목 단어 추천"),
+                                fieldWithPath("titles[].text").description("제목 단어"),
+                                fieldWithPath("titles[].score").description("단어가 포함된 스터디의 현재 인원 합"),
+                                fieldWithPath("tags").description("태그 추천"),
+                                fieldWithPath("tags[].text").type(JsonFieldType.STRING).description("태그").optional(),
+                                fieldWithPath("tags[].score").type(JsonFieldType.NUMBER).description("태그를 사용한 스터디 수").optional()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("스터디 Search 여러건 조회 1페이지")
     void getSearchStudies() throws Exception {
         // given
-        Member studyOwner = memberRepository.save(MemberFixture.create(true));
-        List<Study> studies = StudyFixture.createStudies(studyOwner);
-        studyRepository.saveAll(studies);
+        committedStudyFixture.createStudies();
 
         // expected
-        mockMvc.perform(get("/api/study")
+        mockMvc.perform(get("/api/study/search")
                         .param("page", "1")
                         .param("size", "8")
                         .param("title", "입니")
                         .param("studyType", "STUDY")
                         .param("tag", "태그1")
+                        .param("tagMatch", "ALL")
+                        .param("approximateCount", "false")
+                        .param("sort", "relevance")
                 )
                 .andExpect(status().isOk())
                 .andDo(document("study-get-search-studies",
@@ -587,7 +1262,10 @@ public class StudyControllerDocTest {
                                 parameterWithName("size").description("페이지 내 게시물 수"),
                                 parameterWithName("title").description("제목"),
                                 parameterWithName("studyType").description("STUDY or MOGAKKO"),
-                                parameterWithName("tag").description("태그")
+                                parameterWithName("tag").description("태그, 콤마(,)로 구분하여 여러 개 입력 가능"),
+                                parameterWithName("tagMatch").description("여러 태그 검색 방식 ALL(모두 포함, 기본값) or ANY(하나라도 포함)"),
+                                parameterWithName("approximateCount").description("true 이면 요청한 페이지까지만 매칭하고 전체 개수는 추정값을 사용 (기본값 false)"),
+                                parameterWithName("sort").description("정렬 방식 latest(최신순, 기본값) or relevance(관련도순, approximateCount 무시)")
                         ),
                         responseFields(
                                 fieldWithPath("totalPage").description("총 페이지 수"),
@@ -603,7 +1281,12 @@ public class StudyControllerDocTest {
                                 fieldWithPath("studyResponses[].endDate").description("스터디 종료일"),
                                 fieldWithPath("studyResponses[].tags").description("스터디 태그들"),
                                 fieldWithPath("studyResponses[].tags[]").description("스터디 태그 정보"),
-                                fieldWithPath("studyResponses[].createdAt").description("스터디 등록일")
+                                fieldWithPath("studyResponses[].createdAt").description("스터디 등록일"),
+                                subsectionWithPath("facets.studyTypes").description("스터디 타입별 검색 결과 수"),
+                                subsectionWithPath("facets.studyStatuses").description("스터디 상태별 검색 결과 수"),
+                                fieldWithPath("facets.tags").description("검색 결과에 많이 쓰인 태그 (최대 10개)"),
+                                fieldWithPath("facets.tags[].tagText").description("태그"),
+                                fieldWithPath("facets.tags[].count").description("태그가 달린 검색 결과 수")
                         )
                 ));
     }
@@ -0,0 +1,12 @@
+package com.study.codingswamp.util.fixture.dto.study;
+
+import com.study.codingswamp.domain.study.dto.request.ApplicantDecisionRequest;
+
+import java.util.List;
+
+public class ApplicantDecisionRequestFixture {
+
+    public static ApplicantDecisionRequest create(List<Long> approvedMemberIds, List<Long> rejectedMemberIds) {
+        return new ApplicantDecisionRequest(approvedMemberIds, rejectedMemberIds);
+    }
+}
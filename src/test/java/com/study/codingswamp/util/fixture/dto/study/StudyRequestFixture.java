@@ -32,4 +32,17 @@ public class StudyRequestFixture {
                 .tags(List.of("태그1", "태그2"))
                 .build();
     }
+
+    public static StudyRequest create(String title) {
+        return StudyRequest.builder()
+                .title(title)
+                .description("설명입니다.")
+                .studyType("STUDY")
+                .thumbnail("#000000")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .maxMemberCount(30)
+                .tags(List.of("태그1", "태그2"))
+                .build();
+    }
 }
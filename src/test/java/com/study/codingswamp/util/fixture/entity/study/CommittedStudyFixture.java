@@ -0,0 +1,59 @@
+package com.study.codingswamp.util.fixture.entity.study;
+
+import com.study.codingswamp.domain.member.entity.Member;
+import com.study.codingswamp.domain.member.repository.MemberRepository;
+import com.study.codingswamp.domain.study.entity.Study;
+import com.study.codingswamp.domain.study.repository.StudyRepository;
+import com.study.codingswamp.util.fixture.entity.member.MemberFixture;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인은 커밋된 변경만 반영하므로, 색인을 거치는 테스트는 테스트 트랜잭션 밖에서 스터디를 커밋하고 끝나면 지운다.
+ */
+public class CommittedStudyFixture {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MemberRepository memberRepository;
+    private final StudyRepository studyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Long> studyIds = new ArrayList<>();
+    private final List<Long> memberIds = new ArrayList<>();
+
+    public CommittedStudyFixture(PlatformTransactionManager transactionManager, MemberRepository memberRepository,
+                                 StudyRepository studyRepository, JdbcTemplate jdbcTemplate) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.memberRepository = memberRepository;
+        this.studyRepository = studyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Study> createStudies() {
+        return transactionTemplate.execute(status -> {
+            Member studyOwner = memberRepository.save(MemberFixture.create(true));
+            memberIds.add(studyOwner.getId());
+            List<Study> studies = studyRepository.saveAll(StudyFixture.createStudies(studyOwner));
+            studyIds.addAll(studies.stream()
+                    .map(Study::getId)
+                    .collect(Collectors.toList()));
+            return studies;
+        });
+    }
+
+    public void clear() {
+        transactionTemplate.executeWithoutResult(status -> {
+            studyRepository.deleteAllById(studyIds);
+            studyRepository.flush();
+            memberIds.forEach(memberId -> jdbcTemplate.update("delete from member where member_id = ?", memberId));
+        });
+        studyIds.clear();
+        memberIds.clear();
+    }
+}
@@ -33,11 +33,16 @@ public class StudyFixture {
                 .and(ofType(Set.class))
                 .and(inClass(Study.class));
 
+        var deletingPredicate = named("deleting")
+                .and(ofType(boolean.class))
+                .and(inClass(Study.class));
+
         var param = new EasyRandomParameters()
                 .randomize(ownerPredicate, () -> member)
                 .excludeField(idPredicate)
                 .excludeField(participantsPredicate)
-                .excludeField(applicantsPredicate);
+                .excludeField(applicantsPredicate)
+                .excludeField(deletingPredicate);
 
         return new EasyRandom(param).nextObject(Study.class);
     }